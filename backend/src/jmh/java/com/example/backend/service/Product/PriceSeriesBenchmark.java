@@ -0,0 +1,162 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.dto.product.Detail.AveragePriceDto;
+import com.example.backend.dto.product.Detail.CandleSumDto;
+import com.example.backend.entity.enumData.CandleInterval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.text.DecimalFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 시세 차트 5개 기간 계산 비교 (같은 체결 내역 기준)
+ * baseline : 캔들 도입 전 getAveragePrices - 전체 체결 목록을 구간마다 stream 으로 걸러 ArrayList 로 모으고,
+ *            MathContext.DECIMAL128 나눗셈 뒤 DecimalFormat 으로 반올림 (calculateAveragePrice / getAllContractData)
+ * priceSeries : 현재 getAveragePrices - 같은 체결을 시간 / 일 캔들로 합산해 둔 것을 PriceSeries 로 1회씩 순회
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceSeriesBenchmark {
+
+    // 첫 체결부터 지금까지 일 수
+    @Param({"90", "365", "1095"})
+    private int days;
+
+    // 하루 평균 체결 수
+    @Param({"10"})
+    private int tradesPerDay;
+
+    private LocalDateTime now;
+    private LocalDateTime firstContractTime;
+    private LocalDateTime threeDayStart;
+    // baseline 입력 - 체결 한 건당 한 점 (productRepository.getAllContractData 결과와 같은 형태)
+    private List<AveragePriceDto> allContractData;
+    // priceSeries 입력 - 같은 체결을 합산한 캔들 (priceCandleRepository.sumByBucket 결과와 같은 형태)
+    private List<CandleSumDto> hourlyCandles;
+    private List<CandleSumDto> dailyCandles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        now = LocalDateTime.of(2026, 10, 18, 15, 30);
+        firstContractTime = now.minusDays(days);
+        threeDayStart = CandleInterval.HOUR.truncate(now.minusDays(3));
+
+        allContractData = new ArrayList<>();
+        long spanSeconds = Duration.between(firstContractTime, now).getSeconds();
+        int trades = days * tradesPerDay;
+        List<LocalDateTime> times = new ArrayList<>(trades);
+        for (int i = 0; i < trades; i++) {
+            times.add(firstContractTime.plusSeconds((long) (random.nextDouble() * spanSeconds)));
+        }
+        times.sort(null);
+        for (LocalDateTime time : times) {
+            allContractData.add(new AveragePriceDto(time, BigDecimal.valueOf(150_000 + random.nextInt(100) * 1_000L)));
+        }
+
+        hourlyCandles = candles(CandleInterval.HOUR, threeDayStart);
+        dailyCandles = candles(CandleInterval.DAY, CandleInterval.DAY.truncate(firstContractTime));
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(calculateAveragePrice(allContractData, now.minusDays(3), now, 3));
+        blackhole.consume(calculateAveragePrice(allContractData, now.minusMonths(1), now, 24));
+        blackhole.consume(calculateAveragePrice(allContractData, now.minusMonths(6), now, 168));
+        blackhole.consume(calculateAveragePrice(allContractData, now.minusYears(1), now, 720));
+        blackhole.consume(calculateAveragePrice(allContractData, firstContractTime, now, 720));
+    }
+
+    @Benchmark
+    public void priceSeries(Blackhole blackhole) {
+        PriceSeries.Window threeDay = PriceSeries.Window.of(threeDayStart, now, 3);
+        PriceSeries.Window oneMonth = PriceSeries.Window.of(CandleInterval.DAY.truncate(now.minusMonths(1)), now, 24);
+        PriceSeries.Window sixMonth = PriceSeries.Window.of(CandleInterval.DAY.truncate(now.minusMonths(6)), now, 168);
+        PriceSeries.Window oneYear = PriceSeries.Window.of(CandleInterval.DAY.truncate(now.minusYears(1)), now, 720);
+        PriceSeries.Window total = PriceSeries.Window.of(CandleInterval.DAY.truncate(firstContractTime), now, 720);
+
+        long[][] hourlyAverages = PriceSeries.of(hourlyCandles).averages(threeDay);
+        long[][] dailyAverages = PriceSeries.of(dailyCandles).averages(oneMonth, sixMonth, oneYear, total);
+
+        blackhole.consume(threeDay.toPrices(hourlyAverages[0]));
+        blackhole.consume(oneMonth.toPrices(dailyAverages[0]));
+        blackhole.consume(sixMonth.toPrices(dailyAverages[1]));
+        blackhole.consume(oneYear.toPrices(dailyAverages[2]));
+        blackhole.consume(total.toPrices(dailyAverages[3]));
+    }
+
+    // 캔들 도입 전 ProductServiceImpl.calculateAveragePrice 그대로 (결과 로그 출력만 제외)
+    private static List<AveragePriceDto> calculateAveragePrice(List<AveragePriceDto> allContractData, LocalDateTime firstContractDateTime, LocalDateTime endDate, int intervalHours) {
+        List<AveragePriceDto> result = new ArrayList<>();
+        DecimalFormat df = new DecimalFormat("#");
+
+        while (firstContractDateTime.isBefore(endDate)) {
+            LocalDateTime nextInterval = firstContractDateTime.plusHours(intervalHours);
+
+            List<AveragePriceDto> intervalData = getAllContractData(allContractData, firstContractDateTime, nextInterval);
+
+            if (intervalData.isEmpty()) {
+                result.add(new AveragePriceDto(firstContractDateTime, BigDecimal.ZERO)); // 체결 내역이 없으면 0
+            } else {
+                BigDecimal sum = BigDecimal.ZERO;
+                for (AveragePriceDto data : intervalData) {
+                    if (data.getAveragePrice() != null) {
+                        sum = sum.add(data.getAveragePrice());
+                    }
+                }
+                BigDecimal average = sum.divide(BigDecimal.valueOf(intervalData.size()), MathContext.DECIMAL128);
+
+                BigDecimal formattedAverage = new BigDecimal(df.format(average));
+                result.add(new AveragePriceDto(firstContractDateTime, formattedAverage));
+            }
+
+            firstContractDateTime = nextInterval;
+        }
+
+        return result;
+    }
+
+    // 캔들 도입 전 ProductServiceImpl.getAllContractData 그대로
+    private static List<AveragePriceDto> getAllContractData(List<AveragePriceDto> allContractData, LocalDateTime startDate, LocalDateTime endDate) {
+        return allContractData.stream()
+                .filter(data -> data.getContractDateTime().isAfter(startDate) && data.getContractDateTime().isBefore(endDate))
+                .collect(Collectors.toList());
+    }
+
+    // 체결 목록을 TradeLedger 처럼 구간 캔들로 합산 (from 이후만, 시간순)
+    private List<CandleSumDto> candles(CandleInterval candleInterval, LocalDateTime from) {
+        Map<LocalDateTime, CandleSumDto> candles = new LinkedHashMap<>();
+        for (AveragePriceDto point : allContractData) {
+            LocalDateTime bucketStart = candleInterval.truncate(point.getContractDateTime());
+            if (bucketStart.isBefore(from)) {
+                continue;
+            }
+            CandleSumDto candle = candles.get(bucketStart);
+            candles.put(bucketStart, candle == null
+                    ? new CandleSumDto(bucketStart, point.getAveragePrice(), 1L)
+                    : new CandleSumDto(bucketStart, candle.getPriceSum().add(point.getAveragePrice()), candle.getVolume() + 1));
+        }
+        return new ArrayList<>(candles.values());
+    }
+}
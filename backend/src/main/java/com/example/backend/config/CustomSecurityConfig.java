@@ -1,6 +1,7 @@
 package com.example.backend.config;
 
 import com.example.backend.security.filter.JWTCheckFilter;
+import com.example.backend.security.filter.RateLimitFilter;
 import com.example.backend.security.handler.CustomAccessDeniedHandler;
 import com.example.backend.security.handler.CustomLoginFailHandler;
 import com.example.backend.security.handler.CustomLoginSuccessHandler;
@@ -30,6 +31,7 @@ import java.util.Arrays;
 public class CustomSecurityConfig {
 
     private final JWTCheckFilter jwtCheckFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomLoginSuccessHandler customLoginSuccessHandler;
     private final CustomLoginFailHandler customLoginFailHandler;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
@@ -88,6 +90,9 @@ public class CustomSecurityConfig {
         // JWT 체크 필터 가장 먼저 실행되도록
         http.addFilterBefore(jwtCheckFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // 인증된 회원 기준 요청 제한 (쿠폰 발급, 입찰)
+        http.addFilterAfter(rateLimitFilter, JWTCheckFilter.class);
+
         // 접근 제한 시 CustomAccessDeniedHandler 사용
         http.exceptionHandling(config -> {
             config.accessDeniedHandler(customAccessDeniedHandler);
@@ -1,25 +1,59 @@
 package com.example.backend.consumer;
 
 
+import com.example.backend.dto.coupon.CouponIssueEvent;
 import com.example.backend.service.coupon.CouponIssueService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Component
+@Log4j2
 public class CouponCreatedConsumer {
 
     private final CouponIssueService couponIssueService;
+    private final ObjectMapper objectMapper;
 
-    public CouponCreatedConsumer(CouponIssueService couponIssueService) {
+    public CouponCreatedConsumer(CouponIssueService couponIssueService, ObjectMapper objectMapper) {
         this.couponIssueService = couponIssueService;
+        this.objectMapper = objectMapper;
     }
 
-    @KafkaListener(topics = "CouponIssueTopic", groupId = "group_1")
-    public void listener(String key) {
-        String[] keyParts = key.split(":");
-        String couponPolicyId = keyParts[2];
-        String userId = keyParts[4];
+    // poll 한 번에 받은 발급 요청을 한 번에 저장 (형식이 잘못된 메시지는 제외)
+    // 같은 reservationId 는 한 번만 저장되므로 재전달 / 컨슈머 추가로 인한 중복 처리는 안전하다
+    // 저장하지 못한 요청은 다시 처리해도 실패하므로 Redis 발급 정보에서 빼서 정합성 점검 재전송 대상에서 제외
+    @KafkaListener(topics = "CouponIssueTopic", groupId = "group_1", containerFactory = "couponIssueBatchFactory")
+    public void listener(List<String> messages) {
+        List<CouponIssueEvent> requests = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            try {
+                requests.add(parse(message));
+            } catch (Exception e) {
+                log.warn("잘못된 쿠폰 발급 메시지 : {}", message);
+            }
+        }
 
-        couponIssueService.couponIssue(couponPolicyId, userId);
+        List<CouponIssueEvent> failed = couponIssueService.couponIssueBatch(requests);
+        if (!failed.isEmpty()) {
+            couponIssueService.releaseFailed(failed);
+        }
+    }
+
+    private CouponIssueEvent parse(String message) throws Exception {
+        if (message.startsWith("{")) {
+            return objectMapper.readValue(message, CouponIssueEvent.class);
+        }
+        // 배포 전에 쌓인 이전 형식 coupon:time-attack:{couponId}:user:{userId} (예약 id 는 (쿠폰, 회원)으로 만듦)
+        String[] keyParts = message.split(":");
+        Long couponId = Long.valueOf(keyParts[2]);
+        Long userId = Long.valueOf(keyParts[4]);
+        return CouponIssueEvent.builder()
+            .couponId(couponId)
+            .userId(userId)
+            .reservationId(CouponIssueEvent.reservationIdOf(couponId, userId))
+            .build();
     }
 }
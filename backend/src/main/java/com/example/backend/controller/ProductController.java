@@ -4,12 +4,10 @@ import com.example.backend.dto.admin.ProductRespDto;
 import com.example.backend.dto.product.*;
 import com.example.backend.dto.product.Detail.*;
 import com.example.backend.dto.user.UserDTO;
+import com.example.backend.service.Product.ProductAutocomplete;
 import com.example.backend.service.Product.ProductService;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -69,11 +67,26 @@ public class ProductController {
         return new ResponseEntity<>(productResponseDtoList, HttpStatus.OK);
     }
 
+    // 상품 검색 (브랜드, 상품명, 모델번호 부분 일치)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchProducts(@RequestParam("keyword") String keyword,
+                                            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        List<ProductResponseDto> productResponseDtoList = productService.searchProducts(keyword, Math.min(limit, 100));
+        return new ResponseEntity<>(productResponseDtoList, HttpStatus.OK);
+    }
+
+    // 검색어 자동완성
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(@RequestParam("prefix") String prefix,
+                                          @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<AutocompleteDto> autocompleteDtoList = productService.autocomplete(prefix, Math.min(limit, ProductAutocomplete.TOP_K));
+        return new ResponseEntity<>(autocompleteDtoList, HttpStatus.OK);
+    }
+
     // 소분류 상품
     @GetMapping("/sub/{subDepartment}")
-    public Slice<ProductResponseDto> products(@PathVariable String subDepartment, @RequestParam(name = "page", defaultValue = "0") int page) {
-        Pageable pageable = PageRequest.of(page, 10);
-        Slice<ProductResponseDto> products = productService.selectCategoryValue(subDepartment, pageable);
+    public CursorSliceDto<ProductResponseDto> products(@PathVariable String subDepartment, @RequestParam(name = "cursor", required = false) String cursor) {
+        CursorSliceDto<ProductResponseDto> products = productService.selectCategoryValue(subDepartment, cursor, 10);
         return products;
     }
 
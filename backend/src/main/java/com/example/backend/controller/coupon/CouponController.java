@@ -1,6 +1,7 @@
 package com.example.backend.controller.coupon;
 
 
+import com.example.backend.dto.coupon.BestCouponDto;
 import com.example.backend.dto.coupon.CouponCreateDto;
 import com.example.backend.dto.coupon.CouponDto;
 import com.example.backend.dto.coupon.CouponIssueDto;
@@ -8,6 +9,7 @@ import com.example.backend.dto.coupon.UserCouponDto;
 import com.example.backend.dto.user.UserDTO;
 import com.example.backend.service.coupon.CouponIssueService;
 import com.example.backend.service.coupon.CouponService;
+import java.math.BigDecimal;
 import java.util.List;
 import jdk.jfr.Timestamp;
 import lombok.Getter;
@@ -49,11 +51,26 @@ public class CouponController {
 
     @GetMapping("/time-attack")
     public ResponseEntity<List<CouponDto>> timeAttack(){
-        List<CouponDto> couponDto = couponService.searchCouponsByTitle("timeAttack");
+        List<CouponDto> couponDto = couponService.timeAttackCoupons();
 
         return new ResponseEntity<>(couponDto, HttpStatus.OK);
     }
 
+    // 주문 금액에 가장 많이 할인되는 보유 쿠폰 (없으면 204)
+    @GetMapping("/best")
+    public ResponseEntity<?> bestCoupon(@RequestParam("amount") BigDecimal amount,
+        @AuthenticationPrincipal UserDTO userDTO){
+        if (userDTO == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        BestCouponDto bestCoupon = couponService.bestCoupon(userDTO.getUserId(), amount);
+        if (bestCoupon == null) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return new ResponseEntity<>(bestCoupon, HttpStatus.OK);
+    }
+
     @GetMapping("/user")
     public ResponseEntity<List<UserCouponDto>> userCoupons(@AuthenticationPrincipal UserDTO userDTO){
         List<UserCouponDto> userCoupons= couponIssueService.userCoupons(userDTO.getUserId());
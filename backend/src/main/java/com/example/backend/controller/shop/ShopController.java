@@ -1,16 +1,19 @@
 package com.example.backend.controller.shop;
 
 import com.example.backend.dto.product.AllProductDto;
+import com.example.backend.dto.product.CursorSliceDto;
+import com.example.backend.dto.product.ShopFilterResponseDto;
+import com.example.backend.service.Product.ProductFacetIndex;
 import com.example.backend.service.ShopService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -20,27 +23,42 @@ public class ShopController {
 
     private final ShopService shopService;
 
+    private static final int PAGE_SIZE = 10;
+
+    // 첫 페이지는 cursor 없이, 다음 페이지는 이전 응답의 nextCursor 로 요청
     @GetMapping("/all")
-    public Slice<AllProductDto> getTotalProduct(@RequestParam("pageNumber") int pageNumber) {
+    public CursorSliceDto<AllProductDto> getTotalProduct(@RequestParam(value = "cursor", required = false) String cursor) {
 
-        Pageable pageable = PageRequest.of(pageNumber, 10);
-        return shopService.getTotalProduct(pageable);
+        return shopService.getTotalProduct(cursor, PAGE_SIZE);
     }
 
+    // 필터별로 콤마로 여러 값 선택 가능 (예: subDepartment=sneakers,boots&size=260,270)
     @GetMapping
-    public Slice<AllProductDto> getFilterProducts(@RequestParam("pageNumber") int pageNumber, @RequestParam("subDepartment") String subDepartment) {
+    public ShopFilterResponseDto getFilterProducts(@RequestParam(value = "cursor", required = false) String cursor,
+                                                   @RequestParam(value = "brand", required = false) String brand,
+                                                   @RequestParam(value = "mainDepartment", required = false) String mainDepartment,
+                                                   @RequestParam(value = "subDepartment", required = false) String subDepartment,
+                                                   @RequestParam(value = "size", required = false) String size,
+                                                   @RequestParam(value = "priceBand", required = false) String priceBand) {
 
-        String[] subDepartments = null;
-        if (subDepartment.contains(",")) {
-            subDepartments = subDepartment.split(",");
-        } else {
-            subDepartments = new String[]{subDepartment};
-        }
+        Map<String, Set<String>> filters = new HashMap<>();
+        filters.put(ProductFacetIndex.BRAND, split(brand));
+        filters.put(ProductFacetIndex.MAIN_DEPARTMENT, split(mainDepartment));
+        filters.put(ProductFacetIndex.SUB_DEPARTMENT, split(subDepartment));
+        filters.put(ProductFacetIndex.SIZE, split(size));
+        filters.put(ProductFacetIndex.PRICE_BAND, split(priceBand));
 
-        System.out.println("subDepartment: " + subDepartment);
+        return shopService.getFilter(cursor, PAGE_SIZE, filters);
+    }
 
-        Pageable pageable = PageRequest.of(pageNumber, 10);
-        return shopService.getFilter(pageable, Arrays.asList(subDepartments));
+    private Set<String> split(String values) {
+        if (values == null || values.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(values.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toSet());
     }
 
 }
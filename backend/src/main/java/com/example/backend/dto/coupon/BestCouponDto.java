@@ -0,0 +1,28 @@
+package com.example.backend.dto.coupon;
+
+import com.example.backend.entity.enumData.DiscountType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 주문 금액에 가장 많이 할인되는 보유 쿠폰
+@Builder
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class BestCouponDto {
+    private Long userCouponId;
+    private Long couponId;
+    private String couponTitle;
+    private DiscountType discountType;
+    private BigDecimal amount;
+    private LocalDateTime endDate;
+    private BigDecimal orderAmount; // 주문 금액
+    private BigDecimal discountAmount; // 할인 금액
+    private BigDecimal paymentAmount; // 할인 후 결제 금액
+}
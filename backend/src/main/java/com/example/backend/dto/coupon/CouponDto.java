@@ -28,6 +28,7 @@ public class CouponDto {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private String content;
+    private Long remainingQuantity; // 남은 발급 수량 (조회 시에만 채움)
 
     public Coupon toEntity() {
         return Coupon.builder()
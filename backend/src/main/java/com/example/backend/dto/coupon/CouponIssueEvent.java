@@ -0,0 +1,29 @@
+package com.example.backend.dto.coupon;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// CouponIssueTopic 메시지 (Kafka key 는 couponId)
+@Builder
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class CouponIssueEvent {
+    private Long couponId;
+    private Long userId;
+    // (쿠폰, 회원)별 예약 id - 재전달 / 정합성 점검 재전송 메시지의 중복 저장 방지 (coupon_issue.reservation_id unique)
+    private String reservationId;
+    // 발급 시간 (epoch millis)
+    private long issuedAt;
+
+    // 회원당 한 번만 발급되므로 (쿠폰 id, 회원 id)로 항상 같은 값을 만든다 (이름 기반 UUID, 36자)
+    public static String reservationIdOf(Long couponId, Long userId) {
+        return UUID.nameUUIDFromBytes(("coupon-issue:" + couponId + ":" + userId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
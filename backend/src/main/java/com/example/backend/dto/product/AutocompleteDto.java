@@ -0,0 +1,18 @@
+package com.example.backend.dto.product;
+
+import lombok.*;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class AutocompleteDto {
+    // 완성 문자열 (원래 표기)
+    private String text;
+    // BRAND / NAME / MODEL_NUM
+    private String type;
+    // 상품명 / 모델번호 후보의 모델 (브랜드는 null)
+    private String modelNum;
+    private long tradeCount;
+}
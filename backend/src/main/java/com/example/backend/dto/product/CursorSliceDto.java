@@ -0,0 +1,18 @@
+package com.example.backend.dto.product;
+
+import lombok.*;
+
+import java.util.List;
+
+// 커서 기반 목록 (다음 페이지는 nextCursor 로 요청, 마지막 페이지면 null)
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorSliceDto<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
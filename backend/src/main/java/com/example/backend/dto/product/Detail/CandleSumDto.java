@@ -0,0 +1,20 @@
+package com.example.backend.dto.product.Detail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 사이즈 구분 없이 합산한 구간별 캔들 (시세 차트용)
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class CandleSumDto {
+    private LocalDateTime bucketStart;
+    private BigDecimal priceSum;
+    private Long volume;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.product;
+
+import lombok.*;
+
+import java.util.Map;
+
+// 샵 필터 조회 결과 + 필터 값별 상품 수 (필터 이름 -> 값 -> 개수)
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShopFilterResponseDto {
+
+    private CursorSliceDto<AllProductDto> products;
+    private Map<String, Map<String, Integer>> facetCounts;
+}
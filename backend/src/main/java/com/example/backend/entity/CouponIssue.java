@@ -34,6 +34,9 @@ public class CouponIssue extends BaseEntity{
     @Column
     private LocalDateTime useDate; // 쿠폰 사용 날짜
 
+    @Column(unique = true, length = 36)
+    private String reservationId; // 발급 예약 id (Kafka 재전달 중복 저장 방지)
+
     public void useCoupon(boolean useStatus){
         this.useStatus = useStatus;
     }
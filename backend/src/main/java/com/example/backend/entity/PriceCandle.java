@@ -0,0 +1,93 @@
+package com.example.backend.entity;
+
+import com.example.backend.entity.enumData.CandleInterval;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+
+/**
+ * 모델번호 + 사이즈별 시간 / 일 단위 시세 캔들 (시가, 고가, 저가, 종가, 평균, 체결 수)
+ * 체결이 기록될 때마다 해당 구간 캔들에 누적된다.
+ * 사이즈가 없는 상품은 NO_SIZE(빈 문자열)로 저장한다. (NULL 은 유니크 키에서 서로 다른 값으로 취급되어 중복 캔들이 생길 수 있음)
+ */
+@Entity
+@Table(name = "price_candle",
+        uniqueConstraints = @UniqueConstraint(name = "uk_price_candle",
+                columnNames = {"modelNum", "productSize", "candleInterval", "bucketStart"}),
+        indexes = @Index(name = "idx_price_candle_model_num_interval_start",
+                columnList = "modelNum, candleInterval, bucketStart"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class PriceCandle {
+
+    public static final String NO_SIZE = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long candleId;
+
+    @Column(nullable = false)
+    private String modelNum;
+
+    @Column(nullable = false)
+    private String productSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private CandleInterval candleInterval;
+
+    // 구간 시작 시간 (정시 / 자정)
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    private BigDecimal openPrice;
+
+    private BigDecimal highPrice;
+
+    private BigDecimal lowPrice;
+
+    private BigDecimal closePrice;
+
+    // 평균가 계산용 체결가 합계
+    private BigDecimal priceSum;
+
+    private long volume;
+
+    public static PriceCandle open(Trade trade, CandleInterval candleInterval) {
+        return PriceCandle.builder()
+                .modelNum(trade.getModelNum())
+                .productSize(sizeKey(trade.getProductSize()))
+                .candleInterval(candleInterval)
+                .bucketStart(candleInterval.truncate(trade.getTradeTime()))
+                .openPrice(trade.getTradePrice())
+                .highPrice(trade.getTradePrice())
+                .lowPrice(trade.getTradePrice())
+                .closePrice(trade.getTradePrice())
+                .priceSum(trade.getTradePrice())
+                .volume(1)
+                .build();
+    }
+
+    public static String sizeKey(String productSize) {
+        return productSize == null ? NO_SIZE : productSize;
+    }
+
+    // 같은 구간의 체결 누적 (체결 시간 순으로 들어온다고 가정)
+    public void apply(BigDecimal tradePrice) {
+        this.highPrice = highPrice.max(tradePrice);
+        this.lowPrice = lowPrice.min(tradePrice);
+        this.closePrice = tradePrice;
+        this.priceSum = priceSum.add(tradePrice);
+        this.volume++;
+    }
+
+    public BigDecimal getAveragePrice() {
+        return priceSum.divide(BigDecimal.valueOf(volume), MathContext.DECIMAL128);
+    }
+}
@@ -82,5 +82,15 @@ public class Product extends BaseEntity {
         this.latestDate = latestDate;
     }
 
+    // 최근 체결 시세 반영
+    public void updateTicker(BigDecimal latestPrice, BigDecimal previousPrice, Double previousPercentage,
+                             Long differenceContract, LocalDateTime latestDate) {
+        this.latestPrice = latestPrice;
+        this.previousPrice = previousPrice;
+        this.previousPercentage = previousPercentage;
+        this.differenceContract = differenceContract;
+        this.latestDate = latestDate;
+    }
+
 
 }
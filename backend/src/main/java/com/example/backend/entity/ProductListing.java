@@ -0,0 +1,105 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록(대분류 / 소분류) 조회용 모델번호별 요약
+ * 상품 정보와 호가창 요약(구매 입찰 최저가, 판매 입찰 최고가, 진행 중 입찰 수, 마지막 입찰 / 체결 시간)을 한 행에 모아두고
+ * 입찰 / 체결 이벤트로 갱신한다. 목록 정렬 기준마다 (분류, 정렬 컬럼) 인덱스가 있어 범위 조회만으로 읽는다.
+ */
+@Entity
+@Table(name = "product_listing", indexes = {
+        @Index(name = "idx_listing_main_register_date", columnList = "mainDepartment, registerDate"),
+        @Index(name = "idx_listing_main_buying_count", columnList = "mainDepartment, buyingBidCount"),
+        @Index(name = "idx_listing_main_last_buying", columnList = "mainDepartment, lastBuyingBidTime"),
+        @Index(name = "idx_listing_main_last_sales", columnList = "mainDepartment, lastSalesBidTime"),
+        @Index(name = "idx_listing_sub_register_date", columnList = "subDepartment, registerDate, modelNum"),
+        @Index(name = "idx_listing_register_date", columnList = "registerDate, modelNum")})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class ProductListing {
+
+    @Id
+    @Column(length = 100)
+    private String modelNum;
+
+    // 목록에서 상세로 이동할 때 쓰는 대표 상품
+    private Long productId;
+
+    @Column(nullable = false, length = 255)
+    private String productImg;
+
+    @Column(nullable = false, length = 50)
+    private String productBrand;
+
+    @Column(nullable = false, length = 100)
+    private String productName;
+
+    @Column(nullable = false)
+    private BigDecimal originalPrice;
+
+    @Column(nullable = false, length = 50)
+    private String mainDepartment;
+
+    @Column(length = 50)
+    private String subDepartment;
+
+    // 모델이 처음 등록된 시간 (목록 커서 정렬 기준이라 비어있으면 안 됨)
+    @Column(nullable = false)
+    private LocalDateTime registerDate;
+
+    private BigDecimal lowestBuyingPrice;
+
+    private BigDecimal highestSalesPrice;
+
+    private int buyingBidCount;
+
+    private int salesBidCount;
+
+    private LocalDateTime lastBuyingBidTime;
+
+    private LocalDateTime lastSalesBidTime;
+
+    private LocalDateTime lastTradeTime;
+
+    public static ProductListing of(Product product) {
+        return ProductListing.builder()
+                .modelNum(product.getModelNum())
+                .productId(product.getProductId())
+                .productImg(product.getProductImg())
+                .productBrand(product.getProductBrand())
+                .productName(product.getProductName())
+                .originalPrice(product.getOriginalPrice())
+                .mainDepartment(product.getMainDepartment())
+                .subDepartment(product.getSubDepartment())
+                .registerDate(product.getCreateDate() != null ? product.getCreateDate() : LocalDateTime.now())
+                .build();
+    }
+
+    // 호가창 요약 반영
+    public void updateBook(BigDecimal lowestBuyingPrice, BigDecimal highestSalesPrice, int buyingBidCount, int salesBidCount) {
+        this.lowestBuyingPrice = lowestBuyingPrice;
+        this.highestSalesPrice = highestSalesPrice;
+        this.buyingBidCount = buyingBidCount;
+        this.salesBidCount = salesBidCount;
+    }
+
+    // 마지막 입찰 / 체결 시간은 더 최근 값으로만 바뀜
+    public void updateActivity(LocalDateTime lastBuyingBidTime, LocalDateTime lastSalesBidTime, LocalDateTime lastTradeTime) {
+        this.lastBuyingBidTime = latest(this.lastBuyingBidTime, lastBuyingBidTime);
+        this.lastSalesBidTime = latest(this.lastSalesBidTime, lastSalesBidTime);
+        this.lastTradeTime = latest(this.lastTradeTime, lastTradeTime);
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) return current;
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 체결 내역 (체결 1건당 1행, 수정 / 삭제 없음)
+ * 모델번호 + 체결 시간 인덱스로 최근 체결 / 시세 차트를 범위 조회한다.
+ */
+@Entity
+@Table(name = "trade", indexes = @Index(name = "idx_trade_model_num_trade_time", columnList = "modelNum, tradeTime"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+public class Trade {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long tradeId;
+
+    @Column(nullable = false)
+    private String modelNum;
+
+    private String productSize;
+
+    @Column(nullable = false)
+    private BigDecimal tradePrice;
+
+    @Column(nullable = false)
+    private LocalDateTime tradeTime;
+
+    // 즉시 구매 / 즉시 판매는 상대 입찰 없이 체결되므로 한쪽이 비어있을 수 있음
+    private Long buyingBiddingId;
+
+    private Long salesBiddingId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "productId", nullable = false)
+    @ToString.Exclude
+    private Product product;
+}
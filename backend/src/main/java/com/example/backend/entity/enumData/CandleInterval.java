@@ -0,0 +1,22 @@
+package com.example.backend.entity.enumData;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum CandleInterval {
+    //1시간
+    HOUR(ChronoUnit.HOURS),
+    //1일
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    CandleInterval(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    // 해당 시간이 속한 캔들 시작 시간
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
@@ -3,6 +3,9 @@ package com.example.backend.entity.enumData;
 public enum CouponCondition {
     START_DATE, // 쿠폰 발급 시작 날짜, 시간
     END_DATE, // 쿠폰 발급 종료 날짜, 시간
+    START_TIMESTAMP, // 쿠폰 발급 시작 (epoch millis, 발급 스크립트 비교용)
+    END_TIMESTAMP, // 쿠폰 발급 종료 (epoch millis, 발급 스크립트 비교용)
     MAX_QUANTITY, // 발급수량
+    TOKEN_POOL, // 미리 만든 발급 토큰 수 (있으면 발급 스크립트가 토큰 목록에서 꺼냄)
     COUPON_CODE // 쿠폰 발급 코드
 }
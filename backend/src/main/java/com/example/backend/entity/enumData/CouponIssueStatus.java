@@ -0,0 +1,28 @@
+package com.example.backend.entity.enumData;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+// 쿠폰 발급 스크립트(RedisRepository.tryIssueCoupon) 결과 코드
+@Getter
+@RequiredArgsConstructor
+public enum CouponIssueStatus {
+    ISSUED(0, "쿠폰이 발급되었습니다."),
+    NOT_FOUND(1, "존재하지 않는 쿠폰입니다."),
+    NOT_STARTED(2, "쿠폰 발급 시간이 아닙니다."),
+    ENDED(3, "쿠폰 발급이 종료되었습니다."),
+    SOLD_OUT(4, "쿠폰이 모두 소진되었습니다."),
+    ALREADY_ISSUED(5, "이미 발급받은 쿠폰입니다.");
+
+    private final long code;
+    private final String message;
+
+    public static CouponIssueStatus of(long code) {
+        return Arrays.stream(values())
+            .filter(status -> status.code == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("알 수 없는 쿠폰 발급 결과 : " + code));
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.backend.producer;
 
-import com.example.backend.dto.coupon.CouponCreateDto;
-import com.example.backend.dto.coupon.CouponIssueDto;
+import com.example.backend.dto.coupon.CouponIssueEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -9,15 +10,19 @@ import org.springframework.stereotype.Component;
 public class CouponCreateProducer {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
 
-    public CouponCreateProducer(KafkaTemplate<String, String> kafkaTemplate) {
+    public CouponCreateProducer(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
         this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
     }
 
-    public void create(Long couponPolicyId, Long userId) {
-        String key = "coupon:time-attack:" + couponPolicyId + ":user:" + userId;
-        kafkaTemplate.send("CouponIssueTopic", key);
+    // couponId 를 key 로 보내서 같은 쿠폰의 발급 요청은 같은 파티션에 순서대로 쌓임
+    public void create(CouponIssueEvent event) {
+        try {
+            kafkaTemplate.send("CouponIssueTopic", String.valueOf(event.getCouponId()), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("쿠폰 발급 메시지 변환 실패 : " + event, e);
+        }
     }
 }
-
-
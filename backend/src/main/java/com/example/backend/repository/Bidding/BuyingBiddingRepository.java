@@ -4,7 +4,9 @@ import com.example.backend.entity.BuyingBidding;
 import com.example.backend.entity.Product;
 import com.example.backend.entity.enumData.BiddingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,4 +25,21 @@ public interface BuyingBiddingRepository extends JpaRepository<BuyingBidding, Lo
     Optional<BuyingBidding> findByBuyingBiddingIdAndUserUserId(Long buyingBiddingId, Long userId);
 
     List<BuyingBidding> findByProductAndBiddingStatus(Product product, BiddingStatus biddingStatus);
+
+    // 샤드 배정용 모델번호
+    @Query("SELECT b.product.modelNum FROM BuyingBidding b WHERE b.buyingBiddingId = :buyingBiddingId")
+    Optional<String> findModelNumById(@Param("buyingBiddingId") Long buyingBiddingId);
+
+    // 호가창 검증 - 진행 중인 구매 입찰 ID
+    @Query("SELECT b.buyingBiddingId FROM BuyingBidding b WHERE b.biddingStatus = 'PROCESS'")
+    List<Long> findAllProcessIds();
+
+    // 호가창 보정 - 호가창에 빠진 진행 중 구매 입찰 적재
+    @Query("SELECT b FROM BuyingBidding b JOIN FETCH b.product WHERE b.buyingBiddingId IN :ids AND b.biddingStatus = 'PROCESS'")
+    List<BuyingBidding> findAllProcessWithProductByIdIn(@Param("ids") List<Long> ids);
+
+    // 마감 시간이 지난 진행 중 입찰 일괄 실패 처리 (그 사이 체결 / 취소된 입찰은 제외)
+    @Modifying
+    @Query("UPDATE BuyingBidding b SET b.biddingStatus = com.example.backend.entity.enumData.BiddingStatus.FAIL WHERE b.buyingBiddingId IN :ids AND b.biddingStatus = 'PROCESS'")
+    int expireAllByIds(@Param("ids") List<Long> ids);
 }
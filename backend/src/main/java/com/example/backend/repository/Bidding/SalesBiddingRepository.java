@@ -5,6 +5,7 @@ import com.example.backend.dto.mypage.saleHistory.SalesStatusCountDto;
 import com.example.backend.entity.SalesBidding;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -42,6 +43,24 @@ public interface SalesBiddingRepository extends JpaRepository<SalesBidding, Long
 
     Optional<SalesBidding> findBySalesBiddingIdAndUserUserId(Long salesBiddingId, Long userId);
 
-    @Query("SELECT s FROM SalesBidding s LEFT JOIN Product p on s.product.productId = p.productId WHERE p.modelNum = :modelNum ORDER BY s.salesBiddingTime asc")
-    List<SalesBidding> findFirstByOriginalContractDate(@Param("modelNum") String modelNum);
+    // 샤드 배정용 모델번호
+    @Query("SELECT s.product.modelNum FROM SalesBidding s WHERE s.salesBiddingId = :salesBiddingId")
+    Optional<String> findModelNumById(@Param("salesBiddingId") Long salesBiddingId);
+
+    // 체결 내역 초기 적재용 - 체결 완료된 판매 입찰
+    @Query("SELECT s FROM SalesBidding s JOIN FETCH s.product WHERE s.salesStatus = 'COMPLETE' ORDER BY s.salesBiddingTime")
+    List<SalesBidding> findAllCompleteWithProduct();
+
+    // 호가창 검증 - 진행 중인 판매 입찰 ID
+    @Query("SELECT s.salesBiddingId FROM SalesBidding s WHERE s.salesStatus = 'PROCESS'")
+    List<Long> findAllProcessIds();
+
+    // 호가창 보정 - 호가창에 빠진 진행 중 판매 입찰 적재
+    @Query("SELECT s FROM SalesBidding s JOIN FETCH s.product WHERE s.salesBiddingId IN :ids AND s.salesStatus = 'PROCESS'")
+    List<SalesBidding> findAllProcessWithProductByIdIn(@Param("ids") List<Long> ids);
+
+    // 마감 시간이 지난 진행 중 입찰 일괄 실패 처리 (그 사이 체결 / 취소된 입찰은 제외)
+    @Modifying
+    @Query("UPDATE SalesBidding s SET s.salesStatus = com.example.backend.entity.enumData.SalesStatus.FAIL WHERE s.salesBiddingId IN :ids AND s.salesStatus = 'PROCESS'")
+    int expireAllByIds(@Param("ids") List<Long> ids);
 }
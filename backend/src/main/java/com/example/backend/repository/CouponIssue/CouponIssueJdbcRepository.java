@@ -0,0 +1,67 @@
+package com.example.backend.repository.CouponIssue;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/* 발급 쿠폰(coupon_issue) JDBC 일괄 저장
+ * Kafka 배치 한 번에 수백 건을 넣으므로 엔티티 저장 대신 batchUpdate 를 쓴다.
+ * MySQL 에서 실제로 한 번에 보내려면 JDBC URL 에 rewriteBatchedStatements=true 가 필요하다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueJdbcRepository {
+
+    /* 같은 reservation_id 는 이미 저장된 것으로 보고 아무 값도 바꾸지 않음
+     * INSERT IGNORE 와 달리 다른 오류(NULL, 길이 초과, 외래 키)는 그대로 예외로 올라온다.
+     * 중복 행의 영향 행 수는 JDBC URL 에 useAffectedRows=true 일 때 0, 기본값(found rows)이면 1
+     * */
+    private static final String INSERT_SQL =
+        "INSERT INTO coupon_issue (user_id, coupon_id, end_date, use_status, reservation_id, create_date, modify_date) "
+            + "VALUES (?, ?, ?, false, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE reservation_id = reservation_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장된 행 수 (useAffectedRows=true 일 때만 중복 제외)
+    public int insertAll(List<IssueRow> rows, LocalDateTime now) {
+        Timestamp createDate = Timestamp.valueOf(now);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getUserId());
+            ps.setLong(2, row.getCouponId());
+            ps.setTimestamp(3, Timestamp.valueOf(row.getEndDate()));
+            ps.setString(4, row.getReservationId());
+            ps.setTimestamp(5, createDate);
+            ps.setTimestamp(6, createDate);
+        });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 행별 수를 알 수 없어 SUCCESS_NO_INFO(-2)가 올 수 있음
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+
+    public int insert(IssueRow row, LocalDateTime now) {
+        return insertAll(List.of(row), now);
+    }
+
+    // 저장할 발급 쿠폰 한 건 (회원 id, 쿠폰 id, 만료 날짜, 발급 예약 id)
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class IssueRow {
+        private final Long userId;
+        private final Long couponId;
+        private final LocalDateTime endDate;
+        private final String reservationId;
+    }
+}
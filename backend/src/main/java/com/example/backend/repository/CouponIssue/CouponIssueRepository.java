@@ -3,9 +3,12 @@ package com.example.backend.repository.CouponIssue;
 import com.example.backend.entity.Coupon;
 import com.example.backend.entity.CouponIssue;
 import com.example.backend.entity.Users;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,4 +30,16 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssue,Long> {
 
     @Query("SELECT ci FROM CouponIssue ci JOIN FETCH ci.coupon c WHERE ci.user.userId = :userId AND ci.useStatus = false AND c.endDate >= CURRENT_DATE")
     List<CouponIssue> findUnusedCouponsByUserId(Long userId);
+
+    // 주어진 회원 중 해당 쿠폰이 저장된 회원 id (Redis 발급 회원과 비교용)
+    @Query("SELECT ci.user.userId FROM CouponIssue ci WHERE ci.coupon.couponId = :couponId AND ci.user.userId IN :userIds")
+    List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
+
+    // 미사용 쿠폰만 사용 처리 (동시에 같은 쿠폰을 쓰는 주문은 한 건만 성공)
+    @Modifying
+    @Query("UPDATE CouponIssue ci SET ci.useStatus = true, ci.useDate = :useDate WHERE ci.userCouponId = :userCouponId AND ci.useStatus = false")
+    int useCoupon(Long userCouponId, LocalDateTime useDate);
+
+    @Query("SELECT COUNT(ci) FROM CouponIssue ci WHERE ci.coupon.couponId = :couponId")
+    long countByCouponId(Long couponId);
 }
@@ -1,11 +1,21 @@
 package com.example.backend.repository.CouponIssue;
 
 import com.example.backend.entity.enumData.CouponCondition;
+import com.example.backend.entity.enumData.CouponIssueStatus;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -25,23 +35,169 @@ public class RedisRepository {
     private static final String COUPON_TYPE_KEY= "coupon:time-attack:condition";
 
 
-    public Long couponIssuedCount(Long couponId) {
-        String issuedCountKey = COUPON_TYPE_KEY + couponId + ":issued:count";
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        return valueOperations.increment(issuedCountKey);
+    private static final int MINT_CHUNK_SIZE = 10_000;
+
+    /* 쿠폰 발급 스크립트
+     * 발급 기간, 중복 발급 확인과 발급 토큰 꺼내기, 발급 수 증가, 발급 회원 등록을 Redis 안에서 한 번에 실행
+     * 발급 토큰을 미리 만든 쿠폰(TOKEN_POOL)은 토큰 목록에서 LPOP 하고, 목록이 비면 소진
+     * 이전 쿠폰은 발급 수와 최대 발급 수량을 비교
+     * KEYS[1] : 발급 조건 Hash, KEYS[2] : 발급 수, KEYS[3] : 발급 회원 Set, KEYS[4] : 발급 토큰 List
+     * ARGV[1] : 회원 id, ARGV[2] : 현재 시간 (epoch millis)
+     * 반환값은 {CouponIssueStatus 의 code, 발급 토큰(있을 때만)}
+     * */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE_SCRIPT = new DefaultRedisScript<>(
+        "local condition = redis.call('HMGET', KEYS[1], 'MAX_QUANTITY', 'START_TIMESTAMP', 'END_TIMESTAMP', 'TOKEN_POOL')\n"
+            + "if not condition[1] or not condition[2] or not condition[3] then return {1} end\n"
+            + "local now = tonumber(ARGV[2])\n"
+            + "if now < tonumber(condition[2]) then return {2} end\n"
+            + "if now > tonumber(condition[3]) then return {3} end\n"
+            + "if redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then return {5} end\n"
+            + "local token = false\n"
+            + "if condition[4] then\n"
+            + "  token = redis.call('LPOP', KEYS[4])\n"
+            + "  if not token then return {4} end\n"
+            + "else\n"
+            + "  local issued = tonumber(redis.call('GET', KEYS[2]) or '0')\n"
+            + "  if issued >= tonumber(condition[1]) then return {4} end\n"
+            + "end\n"
+            + "redis.call('INCR', KEYS[2])\n"
+            + "redis.call('SADD', KEYS[3], ARGV[1])\n"
+            + "if token then return {0, token} end\n"
+            + "return {0}",
+        List.class);
+
+    // 발급 가능하면 발급 토큰 / 발급 수 / 발급 회원을 함께 반영하고 ISSUED, 아니면 아무것도 바꾸지 않고 사유를 반환
+    public CouponIssueResult tryIssueCoupon(Long couponId, Long userId, long nowMillis) {
+        List<String> keys = List.of(
+            COUPON_TYPE_KEY + ":" + couponId,
+            COUPON_TYPE_KEY + couponId + ":issued:count",
+            COUPON_TYPE_KEY + couponId + ":users",
+            COUPON_TYPE_KEY + couponId + ":tokens");
+        List<?> result = redisTemplate.execute(ISSUE_SCRIPT, keys, String.valueOf(userId), String.valueOf(nowMillis));
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("쿠폰 발급 스크립트 결과가 없습니다.");
+        }
+        CouponIssueStatus status = CouponIssueStatus.of(((Number) result.get(0)).longValue());
+        String token = result.size() > 1 ? String.valueOf(result.get(1)) : null;
+        return new CouponIssueResult(status, token);
+    }
+
+    /* 최대 발급 수량만큼 발급 토큰({couponId}-{번호})을 미리 만들어 둠
+     * 다 만든 뒤 TOKEN_POOL 조건을 저장해야 발급 스크립트가 토큰 목록을 사용한다.
+     * */
+    public void mintCouponTokens(Long couponId, long quantity) {
+        String tokenKey = COUPON_TYPE_KEY + couponId + ":tokens";
+        redisTemplate.delete(tokenKey);
+        List<String> chunk = new ArrayList<>((int) Math.min(quantity, MINT_CHUNK_SIZE));
+        for (long i = 1; i <= quantity; i++) {
+            chunk.add(couponId + "-" + i);
+            if (chunk.size() == MINT_CHUNK_SIZE) {
+                redisTemplate.opsForList().rightPushAll(tokenKey, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(tokenKey, chunk);
+        }
+        saveCouponCondition(String.valueOf(couponId), CouponCondition.TOKEN_POOL, String.valueOf(quantity));
+    }
+
+    /* 남은 발급 수량 조회 스크립트 - 여러 쿠폰을 한 번에 조회
+     * 토큰을 만든 쿠폰은 LLEN, 이전 쿠폰은 최대 발급 수량 - 발급 수 (발급 조건이 없으면 0)
+     * KEYS 는 쿠폰마다 3개씩 : 발급 조건 Hash, 발급 수, 발급 토큰 List
+     * 반환값은 KEYS 순서대로 쿠폰별 남은 수량
+     * */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REMAINING_SCRIPT = new DefaultRedisScript<>(
+        "local result = {}\n"
+            + "for i = 1, #KEYS, 3 do\n"
+            + "  local condition = redis.call('HMGET', KEYS[i], 'MAX_QUANTITY', 'TOKEN_POOL')\n"
+            + "  local remaining = 0\n"
+            + "  if condition[2] then remaining = redis.call('LLEN', KEYS[i + 2])\n"
+            + "  elseif condition[1] then remaining = math.max(0, tonumber(condition[1]) - tonumber(redis.call('GET', KEYS[i + 1]) or '0')) end\n"
+            + "  result[#result + 1] = remaining\n"
+            + "end\n"
+            + "return result",
+        List.class);
+
+    // 쿠폰 id -> 남은 발급 수량 (Redis 한 번 호출)
+    public Map<Long, Long> remainingQuantities(List<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keys = new ArrayList<>(couponIds.size() * 3);
+        for (Long couponId : couponIds) {
+            keys.add(COUPON_TYPE_KEY + ":" + couponId);
+            keys.add(COUPON_TYPE_KEY + couponId + ":issued:count");
+            keys.add(COUPON_TYPE_KEY + couponId + ":tokens");
+        }
+        List<?> result = redisTemplate.execute(REMAINING_SCRIPT, keys);
+        Map<Long, Long> remaining = new HashMap<>();
+        for (int i = 0; i < couponIds.size(); i++) {
+            Object value = result != null && i < result.size() ? result.get(i) : null;
+            remaining.put(couponIds.get(i), value != null ? ((Number) value).longValue() : 0L);
+        }
+        return remaining;
     }
 
-    public void issuedCancel(Long couponId) {
-        String issuedCountKey = COUPON_TYPE_KEY + couponId + ":issued:count";
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.decrement(issuedCountKey);
+    // 발급 수를 발급 회원 Set 크기로 맞춤 (SCARD 와 SET 을 한 번에 실행), 바뀌기 전 발급 수 반환
+    private static final RedisScript<Long> SYNC_COUNT_SCRIPT = new DefaultRedisScript<>(
+        "local previous = tonumber(redis.call('GET', KEYS[1]) or '0')\n"
+            + "redis.call('SET', KEYS[1], redis.call('SCARD', KEYS[2]))\n"
+            + "return previous",
+        Long.class);
+
+    // 발급 회원 Set 에서 회원을 빼고, 빠졌을 때만 발급 수를 1 줄임 (SREM 과 DECR 을 한 번에 실행), 뺐으면 1 반환
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('SREM', KEYS[2], ARGV[1]) == 0 then return 0 end\n"
+            + "if tonumber(redis.call('GET', KEYS[1]) or '0') > 0 then redis.call('DECR', KEYS[1]) end\n"
+            + "return 1",
+        Long.class);
+
+    /* 발급 회원 Set 을 SSCAN 으로 chunkSize 개씩 나눠 읽음 (KEYS / SMEMBERS 처럼 Redis 를 오래 막지 않음)
+     * SSCAN 특성상 읽는 도중 추가된 회원은 빠질 수 있고, 같은 회원이 두 번 나올 수 있다.
+     * */
+    public void scanCouponUsers(Long couponId, int chunkSize, Consumer<List<Long>> chunkConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(chunkSize).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(COUPON_TYPE_KEY + couponId + ":users", options)) {
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            while (cursor.hasNext()) {
+                chunk.add(Long.valueOf(cursor.next()));
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+        }
+    }
+
+    public long getIssuedCount(Long couponId) {
+        String count = redisTemplate.opsForValue().get(COUPON_TYPE_KEY + couponId + ":issued:count");
+        return count != null ? Long.parseLong(count) : 0L;
+    }
+
+    public long countCouponUsers(Long couponId) {
+        Long size = redisTemplate.opsForSet().size(COUPON_TYPE_KEY + couponId + ":users");
+        return size != null ? size : 0L;
     }
 
-    public Long registerCouponUser(Long couponId, Long userId) {
-        String userSetKey = COUPON_TYPE_KEY + couponId + ":users";
-        return redisTemplate.opsForSet().add(userSetKey, String.valueOf(userId));
+    public long syncIssuedCount(Long couponId) {
+        Long previous = redisTemplate.execute(SYNC_COUNT_SCRIPT,
+            List.of(COUPON_TYPE_KEY + couponId + ":issued:count", COUPON_TYPE_KEY + couponId + ":users"));
+        return previous != null ? previous : 0L;
     }
 
+    // 저장할 수 없는 발급을 되돌림 (발급 토큰은 돌려놓지 않음), 발급 회원 Set 에 있었으면 true
+    public boolean releaseCouponUser(Long couponId, Long userId) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT,
+            List.of(COUPON_TYPE_KEY + couponId + ":issued:count", COUPON_TYPE_KEY + couponId + ":users"),
+            String.valueOf(userId));
+        return released != null && released == 1L;
+    }
 
     // 쿠폰의 발급 조건 저장, conditionKey(발급조건이름), conditionValue(발급조건)
     public void saveCouponCondition(String couponId, CouponCondition conditionKey, String conditionValue) {
@@ -69,5 +225,11 @@ public class RedisRepository {
      * 발급 가능한 날짜, 총 발급 수량
      * */
 
-
-}
\ No newline at end of file
+    // 발급 스크립트 결과 (발급 토큰은 토큰을 만든 쿠폰이 발급됐을 때만 있음)
+    @Getter
+    @RequiredArgsConstructor
+    public static class CouponIssueResult {
+        private final CouponIssueStatus status;
+        private final String token;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.backend.repository.Product;
+
+import com.example.backend.entity.QProductListing;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.OrderSpecifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서 - 마지막으로 내려준 상품의 (등록 시간, 모델번호)
+ * 목록은 등록 시간 -> 모델번호 내림차순으로 고정 정렬되므로, 다음 페이지는 이 값보다 뒤에 있는 행부터 인덱스로 바로 찾는다. (OFFSET 없음)
+ * 클라이언트에는 Base64 문자열로만 전달한다.
+ */
+final class ListingCursor {
+
+    private static final QProductListing listing = QProductListing.productListing;
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime registerDate;
+    private final String modelNum;
+
+    private ListingCursor(LocalDateTime registerDate, String modelNum) {
+        this.registerDate = registerDate;
+        this.modelNum = modelNum;
+    }
+
+    static ListingCursor of(LocalDateTime registerDate, String modelNum) {
+        return new ListingCursor(registerDate, modelNum);
+    }
+
+    // 첫 페이지는 커서 없음 (null)
+    static ListingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ListingCursor(LocalDateTime.parse(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    String encode() {
+        String value = registerDate.toString() + SEPARATOR + modelNum;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서보다 뒤에 있는 행 (커서가 없으면 조건 없음)
+    static BooleanExpression after(ListingCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return listing.registerDate.lt(cursor.registerDate)
+                .or(listing.registerDate.eq(cursor.registerDate).and(listing.modelNum.lt(cursor.modelNum)));
+    }
+
+    static OrderSpecifier<?>[] order() {
+        return new OrderSpecifier<?>[]{listing.registerDate.desc(), listing.modelNum.desc()};
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.repository.Product;
+
+import com.example.backend.entity.ProductListing;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductListingRepository extends JpaRepository<ProductListing, String> {
+}
@@ -4,13 +4,10 @@ package com.example.backend.repository.Product;
 import com.example.backend.dto.mypage.main.ProductDetailsDto;
 import com.example.backend.entity.Product;
 import com.example.backend.entity.enumData.ProductStatus;
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,41 +28,9 @@ public interface ProductRepository extends JpaRepository<Product, Long>, AdminPr
 
     Optional<Product> findFirstByModelNum(String modelNum);
 
-    // 최근에 실행시킨 서버 날짜 가져오기
+    // 모델의 가장 최근 체결 상품 (시세 초기값)
     Optional<Product> findFirstByModelNumOrderByLatestDateDesc(String modelNum);
 
-    // 거래가 새롭게 체결된 날짜를 업데이트
-    Optional<Product> findProductsByProductId(Long productId);
-
-    // 이전 체결가 및 변동률이 없을 경우 0으로 초기화
-    @Modifying
-    @Transactional
-    @Query("UPDATE Product p SET p.previousPrice = 0, p.previousPercentage = 0.0 WHERE p.productId = :productId")
-    void resetPreviousPrice(@Param("productId") Long productId);
-
-    // 신규 체결가 있을때 기존 신규 체결가 -> 신규 이전 체결가
-    @Modifying
-    @Transactional
-    @Query("UPDATE Product p SET p.previousPrice = :previousContractPrice WHERE p.productId = :recentlyProductId")
-    void updatePreviousPrice(@Param("recentlyProductId") Long recentlyProductId, @Param("previousContractPrice") BigDecimal previousContractPrice);
-
-    // 해당 Id의 변동률 계산
-    @Modifying
-    @Transactional
-    @Query("UPDATE Product p SET p.previousPercentage = :changePercentage WHERE p.productId = :recentlyProductId")
-    void updateRecentlyContractPercentage(@Param("recentlyProductId") Long recentlyProductId, @Param("changePercentage") Double changePercentage);
-
-    // 최근 체결 상품의 최근 체결 가격 저장
-    @Modifying
-    @Transactional
-    @Query("UPDATE Product p SET p.latestPrice = :latestPrice WHERE p.productId = :productId")
-    void updateLatestPrice(@Param("productId") Long productId, @Param("latestPrice") BigDecimal latestPrice);
-
-    @Modifying
-    @Transactional
-    @Query("UPDATE Product p SET p.differenceContract = :differenceContract WHERE p.productId = :productId")
-    void updateDifferenceContract(@Param("productId") Long productId, @Param("differenceContract") Long differenceContract);
-
     // TODO: QueryDSL로 변경
     // 회원의 관심상품 productIdList 로 상품 상세 정보 조회
     @Query("SELECT new com.example.backend.dto.mypage.main.ProductDetailsDto(p.productId, p.productImg, p.productBrand, p.productName, p.modelNum) " +
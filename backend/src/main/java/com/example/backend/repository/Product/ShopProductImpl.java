@@ -1,23 +1,18 @@
 package com.example.backend.repository.Product;
 
 import com.example.backend.dto.product.AllProductDto;
-import com.example.backend.entity.QBuyingBidding;
-import com.example.backend.entity.QProduct;
-import com.example.backend.entity.enumData.BiddingStatus;
-import com.example.backend.entity.enumData.ProductStatus;
-import com.nimbusds.oauth2.sdk.util.StringUtils;
-import com.querydsl.core.BooleanBuilder;
+import com.example.backend.dto.product.CursorSliceDto;
+import com.example.backend.entity.QProductListing;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQueryFactory;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Log4j2
@@ -25,83 +20,43 @@ import java.util.List;
 public class ShopProductImpl implements ShopProduct {
     private final JPQLQueryFactory queryFactory;
 
-    QProduct product = QProduct.product;
-    QBuyingBidding buyingBidding = QBuyingBidding.buyingBidding;
+    QProductListing listing = QProductListing.productListing;
 
-    // 필터링
-    private BooleanExpression eqSub(List<String> subDepartment){
-        log.info("subDepartment : {}", subDepartment);
-        log.info("subDepartment toString : {}", subDepartment.toString());
-        return product.subDepartment.in(subDepartment);
-    }
-
-    // 모든 상품 조회
+    // 모든 상품 조회 - 구매 입찰이 있는 상품을 등록 시간 역순으로, 커서 다음부터 size 개
     @Override
-    public Slice<AllProductDto> allProduct(Pageable pageable) {
-
-        int pageSize = pageable.getPageSize();
-
-        List<AllProductDto> products = queryFactory
+    public CursorSliceDto<AllProductDto> allProduct(String cursor, int size) {
+        List<Tuple> rows = queryFactory
                 .select(Projections.constructor(AllProductDto.class,
-                        product.modelNum,
-                        product.productId,
-                        product.productBrand,
-                        product.productName,
-                        product.subDepartment,
-                        product.productImg,
-                        buyingBidding.buyingBiddingPrice.min()
-                        ))
-                .from(product)
-                .leftJoin(buyingBidding).on(product.productId.eq(buyingBidding.product.productId))
-                .where(product.productStatus.eq(ProductStatus.valueOf("REGISTERED"))
-                        .and(buyingBidding.biddingStatus.eq(BiddingStatus.valueOf("PROCESS"))))
-                .groupBy(product.modelNum)
-                .offset(pageable.getOffset())
-                .limit(pageSize + 1)
+                                listing.modelNum,
+                                listing.productId,
+                                listing.productBrand,
+                                listing.productName,
+                                listing.subDepartment,
+                                listing.productImg,
+                                listing.lowestBuyingPrice),
+                        listing.registerDate)
+                .from(listing)
+                .where(listing.buyingBidCount.gt(0),
+                        ListingCursor.after(ListingCursor.decode(cursor)))
+                .orderBy(ListingCursor.order())
+                .limit(size + 1)
                 .fetch();
 
         // 다음 페이지 유무
-        boolean hasNext = false;
-        if(products.size() > pageSize){
-            products.remove(pageSize);
-            hasNext = true;
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
         }
 
-        // Slice 객체 변환
-        return new SliceImpl<>(products, pageable, hasNext);
-    }
-
-    @Override
-    public Slice<AllProductDto> filterProduct(Pageable pageable, List<String> subDepartment) {
-        int pageSize = pageable.getPageSize();
-
-        List<AllProductDto> products = queryFactory
-                .select(Projections.constructor(AllProductDto.class,
-                        product.modelNum,
-                        product.productId,
-                        product.productBrand,
-                        product.productName,
-                        product.subDepartment,
-                        product.productImg,
-                        buyingBidding.buyingBiddingPrice.min()
-                ))
-                .from(product)
-                .leftJoin(buyingBidding).on(product.productId.eq(buyingBidding.product.productId))
-                .where(product.productStatus.eq(ProductStatus.valueOf("REGISTERED"))
-                        .and(buyingBidding.biddingStatus.eq(BiddingStatus.valueOf("PROCESS"))), eqSub(subDepartment))
-                .groupBy(product.modelNum)
-                .offset(pageable.getOffset())
-                .limit(pageSize + 1)
-                .fetch();
-
-        // 다음 페이지 유무
-        boolean hasNext = false;
-        if(products.size() > pageSize){
-            products.remove(pageSize);
-            hasNext = true;
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            nextCursor = ListingCursor.of(last.get(1, LocalDateTime.class), last.get(0, AllProductDto.class).getModelNum()).encode();
         }
 
-        // Slice 객체 변환
-        return new SliceImpl<>(products, pageable, hasNext);
+        List<AllProductDto> products = rows.stream()
+                .map(row -> row.get(0, AllProductDto.class))
+                .collect(Collectors.toList());
+        return new CursorSliceDto<>(products, nextCursor, hasNext);
     }
 }
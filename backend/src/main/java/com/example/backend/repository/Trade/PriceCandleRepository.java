@@ -0,0 +1,39 @@
+package com.example.backend.repository.Trade;
+
+import com.example.backend.dto.product.Detail.CandleSumDto;
+import com.example.backend.entity.PriceCandle;
+import com.example.backend.entity.enumData.CandleInterval;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PriceCandleRepository extends JpaRepository<PriceCandle, Long> {
+
+    Optional<PriceCandle> findByModelNumAndProductSizeAndCandleIntervalAndBucketStart(
+            String modelNum, String productSize, CandleInterval candleInterval, LocalDateTime bucketStart);
+
+    boolean existsByProductSizeIsNull();
+
+    // 사이즈 없는 상품의 캔들 (이전 NULL 저장분 포함) 삭제 - 체결 내역으로 다시 만들 때 사용
+    @Modifying
+    @Query("DELETE FROM PriceCandle c WHERE c.productSize IS NULL OR c.productSize = ''")
+    int deleteNoSizeCandles();
+
+    // 모델의 첫 캔들 (전체 기간 시세 시작점)
+    Optional<PriceCandle> findFirstByModelNumAndCandleIntervalOrderByBucketStartAsc(String modelNum, CandleInterval candleInterval);
+
+    // 사이즈 구분 없이 구간별 합산 - (modelNum, candleInterval, bucketStart) 인덱스 범위 조회
+    @Query("SELECT new com.example.backend.dto.product.Detail.CandleSumDto(c.bucketStart, SUM(c.priceSum), SUM(c.volume)) " +
+            "FROM PriceCandle c " +
+            "WHERE c.modelNum = :modelNum AND c.candleInterval = :candleInterval AND c.bucketStart >= :from " +
+            "GROUP BY c.bucketStart " +
+            "ORDER BY c.bucketStart")
+    List<CandleSumDto> sumByBucket(@Param("modelNum") String modelNum,
+                                   @Param("candleInterval") CandleInterval candleInterval,
+                                   @Param("from") LocalDateTime from);
+}
@@ -0,0 +1,26 @@
+package com.example.backend.repository.Trade;
+
+import com.example.backend.entity.Trade;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TradeRepository extends JpaRepository<Trade, Long> {
+
+    // 모델의 최초 체결 (전체 기간 시세 시작점)
+    Optional<Trade> findFirstByModelNumOrderByTradeTimeAsc(String modelNum);
+
+    // 사이즈 없는 상품의 체결 (시세 캔들 재생성용)
+    List<Trade> findByProductSizeIsNull(Sort sort);
+
+    // 모델별 마지막 체결 시간 [modelNum, tradeTime] (상품 목록 요약 재생성용)
+    @Query("SELECT t.modelNum, MAX(t.tradeTime) FROM Trade t GROUP BY t.modelNum")
+    List<Object[]> findLastTradeTimes();
+
+    // 모델별 체결 수 [modelNum, count] (자동완성 가중치용)
+    @Query("SELECT t.modelNum, COUNT(t) FROM Trade t GROUP BY t.modelNum")
+    List<Object[]> countByModelNum();
+}
@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +19,8 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     String findPasswordByUserId(String email);
 
     boolean existsByUserId(Long userId);
+
+    // 주어진 id 중 실제 존재하는 회원 id (쿠폰 일괄 발급 확인용)
+    @Query("SELECT u.userId FROM Users u WHERE u.userId IN :userIds")
+    List<Long> findExistingUserIds(Collection<Long> userIds);
 }
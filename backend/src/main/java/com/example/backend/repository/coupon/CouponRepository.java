@@ -5,6 +5,7 @@ import com.example.backend.entity.Address;
 import com.example.backend.entity.Coupon;
 import com.example.backend.entity.CouponIssue;
 import com.example.backend.entity.Users;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,5 +22,8 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
     List<Coupon> findByCouponTitleContaining(String keyword);
 
+    // 발급 종료가 기준 시간 이후인 쿠폰 (발급 정합성 점검 대상)
+    List<Coupon> findByEndDateAfter(LocalDateTime dateTime);
+
 
 }
@@ -0,0 +1,128 @@
+package com.example.backend.security;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 버킷 요청 제한
+ * 버킷마다 최대 capacity 개의 토큰을 두고 초당 refillPerSecond 개씩 채운다. 요청 한 번에 토큰 하나를 쓴다.
+ * 기본은 서버 메모리 버킷이고, rate-limit.redis-enabled=true 면 Redis 스크립트로 모든 서버가 같은 버킷을 쓴다.
+ * Redis 호출이 실패하면 메모리 버킷으로 대신 판단한다.
+ */
+@Component
+@Log4j2
+public class RateLimiter {
+
+    private static final String REDIS_KEY = "rate-limit:";
+
+    /* 토큰 버킷 스크립트
+     * KEYS[1] : 버킷 Hash (tokens, ts)
+     * ARGV[1] : capacity, ARGV[2] : 초당 충전 수
+     * 현재 시간은 Redis TIME 을 사용해서 서버마다 시계가 달라도 같은 버킷을 같은 기준으로 채운다. (Redis 5 이상, 스크립트 효과 복제)
+     * 반환값은 허용이면 0, 거절이면 토큰이 생길 때까지 남은 시간(ms, 1 이상)
+     * */
+    private static final RedisScript<Long> BUCKET_SCRIPT = new DefaultRedisScript<>(
+        "local capacity = tonumber(ARGV[1])\n"
+            + "local rate = tonumber(ARGV[2])\n"
+            + "local time = redis.call('TIME')\n"
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)\n"
+            + "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')\n"
+            + "local tokens = tonumber(bucket[1]) or capacity\n"
+            + "local ts = tonumber(bucket[2]) or now\n"
+            + "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)\n"
+            + "local wait = 0\n"
+            + "if tokens >= 1 then tokens = tokens - 1 else wait = math.max(1, math.ceil((1 - tokens) * 1000 / rate)) end\n"
+            + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))\n"
+            + "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)\n"
+            + "return wait",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean redisEnabled;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate,
+                       @Value("${rate-limit.redis-enabled:false}") boolean redisEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+    }
+
+    /**
+     * 토큰을 하나 쓰고, 허용이면 0 / 거절이면 다시 시도할 수 있을 때까지 남은 시간(ms)을 반환
+     */
+    public long tryAcquire(String key, int capacity, double refillPerSecond) {
+        if (redisEnabled) {
+            try {
+                Long wait = redisTemplate.execute(BUCKET_SCRIPT, List.of(REDIS_KEY + key),
+                    String.valueOf(capacity), String.valueOf(refillPerSecond));
+                if (wait != null) {
+                    return wait;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Redis 요청 제한 실패 - 메모리 버킷 사용 : {}", key, e);
+            }
+        }
+        // cleanup 과 같은 키 단위 원자 연산 안에서 토큰을 써야 제거된 버킷에 쓰는 일이 없다
+        long[] wait = new long[1];
+        buckets.compute(key, (k, bucket) -> {
+            TokenBucket current = bucket != null ? bucket : new TokenBucket(capacity, refillPerSecond);
+            wait[0] = current.tryAcquire();
+            return current;
+        });
+        return wait[0];
+    }
+
+    // 가득 찬 버킷은 새로 만든 것과 같으므로 주기적으로 제거
+    // 확인과 제거를 키마다 원자적으로 처리해서, 그 사이 토큰을 쓴 버킷을 지우지 않는다
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> bucket.isFull() ? null : bucket);
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        private synchronized long tryAcquire() {
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano / TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+
+        private synchronized boolean isFull() {
+            refill();
+            return tokens >= capacity;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.backend.security.filter;
+
+import com.example.backend.dto.user.UserDTO;
+import com.example.backend.security.RateLimiter;
+import com.google.gson.Gson;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 발급 / 입찰 요청을 회원별 토큰 버킷으로 제한
+ * JWTCheckFilter 다음에 실행되어 인증된 회원 id 기준으로 제한하고, 초과 요청은 서비스까지 가지 않고 429 로 응답한다.
+ * 제한 값은 endpoint 별 설정(rate-limit.{name}.capacity / refill-per-second)으로 조정한다.
+ */
+@Component
+@Log4j2
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RateLimiter rateLimiter;
+    private final List<Rule> rules;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.coupon-issue.capacity:3}") int couponIssueCapacity,
+                           @Value("${rate-limit.coupon-issue.refill-per-second:0.5}") double couponIssueRefill,
+                           @Value("${rate-limit.bid.capacity:10}") int bidCapacity,
+                           @Value("${rate-limit.bid.refill-per-second:1}") double bidRefill) {
+        this.rateLimiter = rateLimiter;
+        this.rules = List.of(
+                new Rule("coupon-issue", "POST", "/coupon/*/issue", couponIssueCapacity, couponIssueRefill, meterRegistry),
+                new Rule("bid", "POST", "/products/details/*/bid", bidCapacity, bidRefill, meterRegistry));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return rule(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Rule rule = rule(request);
+        String client = client(request);
+
+        long waitMillis = rateLimiter.tryAcquire(rule.name + ":" + client, rule.capacity, rule.refillPerSecond);
+        if (waitMillis == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rule.rejected.increment();
+        log.info("요청 제한 - endpoint : {}, client : {}, 대기 : {}ms", rule.name, client, waitMillis);
+
+        response.setContentType("application/json");
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+        PrintWriter printWriter = response.getWriter();
+        printWriter.write(new Gson().toJson(Map.of("error", "TOO_MANY_REQUESTS")));
+        printWriter.close();
+    }
+
+    private Rule rule(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (Rule rule : rules) {
+            if (rule.method.equals(request.getMethod()) && pathMatcher.match(rule.pattern, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 인증된 회원이면 회원 id, 아니면 접속 IP
+    private String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDTO userDTO) {
+            return "user:" + userDTO.getUserId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static final class Rule {
+
+        private final String name;
+        private final String method;
+        private final String pattern;
+        private final int capacity;
+        private final double refillPerSecond;
+        private final Counter rejected;
+
+        private Rule(String name, String method, String pattern, int capacity, double refillPerSecond, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.method = method;
+            this.pattern = pattern;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.rejected = Counter.builder("rate.limit.rejected").tag("endpoint", name).register(meterRegistry);
+        }
+    }
+}
@@ -16,16 +16,21 @@ import com.example.backend.repository.Bidding.SalesBiddingRepository;
 import com.example.backend.repository.LuckyDraw.LuckyDrawRepository;
 import com.example.backend.repository.Product.ProductRepository;
 import com.example.backend.repository.User.UserRepository;
+import com.example.backend.service.Product.ProductRegisteredEvent;
+import com.example.backend.service.matching.BiddingMatchService;
+import com.example.backend.service.matching.MatchingShards;
 import com.example.backend.service.objectstorage.ObjectStorageService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -47,6 +52,9 @@ public class AdminService {
     private final LuckyDrawRepository luckyDrawRepository;
     private final UserRepository userRepository;
     private final ObjectStorageService objectStorageService;
+    private final BiddingMatchService biddingMatchService;
+    private final MatchingShards matchingShards;
+    private final ApplicationEventPublisher eventPublisher;
 
     //요청상품 다건 조회
     public AdminRespDto.ReqProductsRespDto reqProducts(){
@@ -81,6 +89,7 @@ public class AdminService {
         } else {
 
             finalRequest.changeProductStatus(ProductStatus.REGISTERED);
+            eventPublisher.publishEvent(new ProductRegisteredEvent(finalRequest.getProductId(), finalRequest.getModelNum()));
             return new AdminRespDto.RegProductRespDto(finalRequest);
         }
     }
@@ -108,17 +117,27 @@ public class AdminService {
         return new AdminRespDto.AdminProductDetailRespDto(modelNum, productSize, detailedProduct);
     }
 
-    //검수 승인 처리
-    @Transactional
+    //검수 승인 처리 - 호가창에 올라가므로 해당 모델번호 샤드에서 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AdminRespDto.ChangeRespDto acceptSales(Long salesBiddingId) {
+        String modelNum = salesBiddingRepository.findModelNumById(salesBiddingId).orElseThrow();
+        return matchingShards.execute(modelNum, () -> accept(salesBiddingId));
+    }
 
+    private AdminRespDto.ChangeRespDto accept(Long salesBiddingId) {
         //해당 id의 판매입찰 정보 찾기
         Optional<SalesBidding> salesBidding = salesBiddingRepository.findById(salesBiddingId);
         SalesBidding acceptSales = salesBidding.orElseThrow();
+        boolean inspection = acceptSales.getSalesStatus() == SalesStatus.INSPECTION;
 
         //판매입찰 상태 검수 -> 판매중으로 변경
         acceptSales.changeSalesStatus(SalesStatus.PROCESS);
 
+        //검수 통과한 판매입찰은 호가창에 올려 체결 시도
+        if (inspection) {
+            biddingMatchService.placeSales(acceptSales);
+        }
+
         //판매입찰의 상품아이디 가져오기
         Long productId = acceptSales.getProduct().getProductId();
 
@@ -6,8 +6,12 @@ import com.example.backend.entity.enumData.BiddingStatus;
 import com.example.backend.entity.enumData.OrderStatus;
 import com.example.backend.repository.Bidding.BuyingBiddingRepository;
 import com.example.backend.repository.Orders.OrdersRepository;
+import com.example.backend.service.matching.BiddingMatchService;
+import com.example.backend.service.matching.BookSide;
+import com.example.backend.service.matching.MatchingShards;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -18,14 +22,24 @@ public class BuyingBiddingService {
 
     private final BuyingBiddingRepository buyingBiddingRepository;
     private final OrdersRepository ordersRepository;
+    private final BiddingMatchService biddingMatchService;
+    private final MatchingShards matchingShards;
 
-    @Transactional
+    // 체결과 취소가 엇갈리지 않도록 해당 모델번호 샤드에서 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cancelBuyingBidding(Long userId, Long buyingBiddingId) {
+        String modelNum = buyingBiddingRepository.findModelNumById(buyingBiddingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구매 입찰 내역입니다."));
+        matchingShards.run(modelNum, () -> cancel(userId, buyingBiddingId));
+    }
+
+    private void cancel(Long userId, Long buyingBiddingId) {
         BuyingBidding buyingBidding = buyingBiddingRepository.findByBuyingBiddingIdAndUserUserId(buyingBiddingId, userId)
                         .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구매 입찰 내역입니다."));
 
         buyingBidding.changeBiddingStatus(BiddingStatus.CANCEL);
         buyingBiddingRepository.save(buyingBidding);
+        biddingMatchService.cancel(BookSide.BUYING, buyingBiddingId);
 
         Optional<Orders> optOrder = ordersRepository.findByBuyingBiddingBuyingBiddingId(buyingBiddingId);
         optOrder.ifPresent(order -> {
@@ -10,7 +10,6 @@ import com.example.backend.dto.orders.SaleOrderDto;
 import com.example.backend.dto.user.UserDTO;
 import com.example.backend.entity.BuyingBidding;
 import com.example.backend.entity.Coupon;
-import com.example.backend.entity.CouponIssue;
 import com.example.backend.entity.Orders;
 import com.example.backend.entity.Product;
 import com.example.backend.entity.SalesBidding;
@@ -22,14 +21,19 @@ import com.example.backend.repository.Orders.OrdersRepository;
 import com.example.backend.repository.Product.ProductRepository;
 import com.example.backend.repository.User.UserRepository;
 import com.example.backend.repository.coupon.CouponRepository;
-import com.example.backend.service.coupon.CouponService;
+import com.example.backend.service.coupon.CouponWallet;
+import com.example.backend.service.coupon.CouponWallet.WalletCoupon;
+import com.example.backend.service.matching.BiddingMatchService;
+import com.example.backend.service.matching.MatchingShards;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -42,13 +46,22 @@ public class OrdersService {
     private final ProductRepository productRepository;
     private final BuyingBiddingRepository buyingBiddingRepository;
     private final CouponIssueRepository couponIssueRepository;
-    private final CouponService couponService;
+    private final CouponWallet couponWallet;
     private final SalesBiddingRepository salesBiddingRepository;
+    private final BiddingMatchService biddingMatchService;
+    private final MatchingShards matchingShards;
 
 
     //구매입찰<->즉시판매
-    @Transactional
+    // 같은 모델번호의 입찰은 한 샤드 스레드에서만 체결되므로 같은 입찰이 동시에 두 번 체결되지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Orders createBuyOrder(UserDTO userDto, BuyOrderDto buyOrderDto) {
+        String modelNum = buyingBiddingRepository.findModelNumById(buyOrderDto.getBuyingBiddingId())
+            .orElseThrow(() -> new RuntimeException("BuyingBidding not found"));
+        return matchingShards.execute(modelNum, () -> buyOrder(userDto, buyOrderDto));
+    }
+
+    private Orders buyOrder(UserDTO userDto, BuyOrderDto buyOrderDto) {
         Users user = userRepository.findById(userDto.getUserId())
             .orElseThrow(() -> new RuntimeException("User not found"));
         Product product = productRepository.findById(buyOrderDto.getProductId())
@@ -57,21 +70,17 @@ public class OrdersService {
                 buyOrderDto.getBuyingBiddingId())
             .orElseThrow(() -> new RuntimeException("BuyingBidding not found"));
 
+        // 호가창에서 먼저 내려서 이미 체결된 입찰이 다시 체결되지 않도록 함
+        biddingMatchService.fillBuying(buyingBidding);
+
         BigDecimal totalAmount = buyingBidding.getBuyingBiddingPrice();
         Coupon coupon = null;
 
         if (buyOrderDto.getCouponId() != null) {
-            coupon = couponRepository.findById(buyOrderDto.getCouponId())
-                .orElseThrow(() -> new RuntimeException("Coupon not found"));
-            CouponIssue userCoupon = couponIssueRepository.findByUsersAndCouponAndUseStatusFalse(
-                    user, coupon)
-                .orElseThrow(() -> new RuntimeException("Coupon not valid"));
-            totalAmount = couponService.applyCoupon(user, coupon, totalAmount)
+            WalletCoupon walletCoupon = useCoupon(user.getUserId(), buyOrderDto.getCouponId());
+            coupon = couponRepository.getReferenceById(walletCoupon.getCouponId());
+            totalAmount = totalAmount.subtract(walletCoupon.discount(totalAmount))
                 .setScale(2, RoundingMode.HALF_UP);
-
-            userCoupon.useCoupon(true);
-            userCoupon.useDate();
-            couponIssueRepository.save(userCoupon);
         }
 
         if (totalAmount.compareTo(BigDecimal.ZERO) < 0) {
@@ -92,8 +101,14 @@ public class OrdersService {
 
 
     // 판매입찰 <-> 즉시구매
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Orders createSaleOrder(UserDTO userDto, SaleOrderDto saleOrderDto) {
+        String modelNum = salesBiddingRepository.findModelNumById(saleOrderDto.getSalesBiddingId())
+            .orElseThrow(() -> new RuntimeException("SalesBidding not found"));
+        return matchingShards.execute(modelNum, () -> saleOrder(userDto, saleOrderDto));
+    }
+
+    private Orders saleOrder(UserDTO userDto, SaleOrderDto saleOrderDto) {
         Users user = userRepository.findById(userDto.getUserId())
             .orElseThrow(() -> new RuntimeException("User not found"));
         Product product = productRepository.findById(saleOrderDto.getProductId())
@@ -102,23 +117,18 @@ public class OrdersService {
                 saleOrderDto.getSalesBiddingId())
             .orElseThrow(() -> new RuntimeException("SalesBidding not found"));
 
-        BigDecimal totalAmount = BigDecimal.valueOf(saleOrderDto.getSalesBiddingId());
+        biddingMatchService.fillSales(salesBidding);
+
+        BigDecimal totalAmount = salesBidding.getSalesBiddingPrice();
         Coupon coupon = null;
 
 
 
         if (saleOrderDto.getCouponId() != null) {
-            coupon = couponRepository.findById(saleOrderDto.getCouponId())
-                .orElseThrow(() -> new RuntimeException("Coupon not found"));
-            CouponIssue userCoupon = couponIssueRepository.findByUsersAndCouponAndUseStatusFalse(
-                    user, coupon)
-                .orElseThrow(() -> new RuntimeException("Coupon not valid"));
-            totalAmount = couponService.applyCoupon(user, coupon, totalAmount)
+            WalletCoupon walletCoupon = useCoupon(user.getUserId(), saleOrderDto.getCouponId());
+            coupon = couponRepository.getReferenceById(walletCoupon.getCouponId());
+            totalAmount = totalAmount.subtract(walletCoupon.discount(totalAmount))
                 .setScale(2, RoundingMode.HALF_UP);
-
-
-            userCoupon.useCoupon(true);
-            couponIssueRepository.save(userCoupon);
         }
 
         if (totalAmount.compareTo(BigDecimal.ZERO) < 0) {
@@ -139,6 +149,18 @@ public class OrdersService {
     }
 
 
+    // 보유 쿠폰(캐시된 쿠폰 지갑)에서 찾아 미사용일 때만 사용 처리하고, 커밋 후 지갑 무효화
+    private WalletCoupon useCoupon(Long userId, Long couponId) {
+        WalletCoupon walletCoupon = couponWallet.find(userId, couponId)
+            .orElseThrow(() -> new RuntimeException("Coupon not valid"));
+        if (couponIssueRepository.useCoupon(walletCoupon.getUserCouponId(), LocalDateTime.now()) == 0) {
+            couponWallet.invalidate(userId);
+            throw new RuntimeException("Coupon not valid");
+        }
+        couponWallet.invalidateAfterCommit(userId);
+        return walletCoupon;
+    }
+
     /**
      * 구매 내역
      * 전체/입찰 중/종료 건수 및 조건별 구매 내역 (상품사진, 상품명, 상품사이즈, 결제금액, 주문상태) 주문날짜 기준 최신순 정렬
@@ -0,0 +1,133 @@
+package com.example.backend.service.Product;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 페이지의 서로 독립적인 조회들을 동시에 실행한다.
+ * 각 조회는 크기가 제한된 전용 풀에서 읽기 전용 트랜잭션으로 실행되고,
+ * 호출한 쪽은 요청 단위 마감 시간(Deadline) 안에서만 결과를 기다린다.
+ * 풀과 대기열이 모두 차면 호출한 스레드에서 직접 실행한다. (DB 커넥션 수 이상으로 늘어나지 않도록)
+ */
+@Component
+@Log4j2
+public class DetailQueryExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTemplate;
+    private final long timeoutMillis;
+
+    public DetailQueryExecutor(@Value("${product.detail.pool-size:8}") int poolSize,
+                               @Value("${product.detail.queue-capacity:200}") int queueCapacity,
+                               @Value("${product.detail.timeout-ms:1000}") long timeoutMillis,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeoutMillis;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "product-detail-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("product.detail.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("상품 상세 조회 대기 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나의 마감 시간 - 이 시점부터 timeout-ms 안에 모든 조회를 기다린다.
+     */
+    public Deadline deadline() {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTemplate.execute(status -> query.get()), executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public static final class Deadline {
+
+        private final long deadlineNanos;
+        private boolean degraded;
+
+        private Deadline(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 필수 항목 - 마감 시간을 넘기거나 실패하면 예외
+         */
+        public <T> T await(CompletableFuture<T> future, String section) {
+            try {
+                return future.get(remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw new IllegalStateException("상품 상세 조회 시간이 초과되었습니다: " + section);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("상품 상세 조회 중 중단되었습니다: " + section);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        /**
+         * 부가 항목 (리뷰, 차트) - 마감 시간을 넘기거나 실패하면 기본값으로 대신하고 나머지는 그대로 응답
+         */
+        public <T> T awaitOrDefault(CompletableFuture<T> future, String section, Supplier<T> fallback) {
+            try {
+                return future.get(remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("상품 상세 부가 항목 시간 초과 - 제외하고 응답 : {}", section);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.warn("상품 상세 부가 항목 조회 실패 - 제외하고 응답 : {}", section, e.getCause());
+            }
+            degraded = true;
+            return fallback.get();
+        }
+
+        // 부가 항목 중 하나라도 기본값으로 대신했는지 여부
+        public boolean isDegraded() {
+            return degraded;
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, deadlineNanos - System.nanoTime());
+        }
+    }
+}
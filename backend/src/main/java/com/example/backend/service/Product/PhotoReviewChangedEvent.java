@@ -0,0 +1,16 @@
+package com.example.backend.service.Product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 스타일 리뷰 등록 / 수정 / 삭제 이벤트
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PhotoReviewChangedEvent {
+
+    private final String modelNum;
+}
@@ -0,0 +1,130 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.dto.product.Detail.AveragePriceDto;
+import com.example.backend.dto.product.Detail.CandleSumDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시세 차트용 구간 평균 계산
+ * 캔들을 long[] (시간 / 체결가 합계 / 체결 수) 배열로 한 번 옮겨두고,
+ * 여러 기간(3일, 1개월, 6개월 ...)을 한 번의 순회로 동시에 집계한다.
+ * 구간 번호는 (시간 - 시작) / 구간 길이로 바로 계산하므로 구간별 리스트나 필터링이 없다.
+ * 금액은 원 단위 정수로 계산한다.
+ */
+public final class PriceSeries {
+
+    private static final long HOUR_MILLIS = 60L * 60 * 1000;
+
+    // LocalDateTime 을 UTC 기준 epoch millis 로 변환 (LocalDateTime.plusHours 와 같은 간격)
+    private final long[] times;
+    private final long[] priceSums;
+    private final long[] volumes;
+
+    private PriceSeries(long[] times, long[] priceSums, long[] volumes) {
+        this.times = times;
+        this.priceSums = priceSums;
+        this.volumes = volumes;
+    }
+
+    public static PriceSeries of(List<CandleSumDto> candles) {
+        int size = candles.size();
+        long[] times = new long[size];
+        long[] priceSums = new long[size];
+        long[] volumes = new long[size];
+        for (int i = 0; i < size; i++) {
+            CandleSumDto candle = candles.get(i);
+            times[i] = toMillis(candle.getBucketStart());
+            priceSums[i] = candle.getPriceSum().setScale(0, RoundingMode.HALF_EVEN).longValue();
+            volumes[i] = candle.getVolume();
+        }
+        return new PriceSeries(times, priceSums, volumes);
+    }
+
+    /**
+     * 기간별 구간 평균가 (체결 없는 구간은 0)
+     * @return windows 순서대로 구간별 평균가 배열
+     */
+    public long[][] averages(Window... windows) {
+        long[][] sums = new long[windows.length][];
+        long[][] counts = new long[windows.length][];
+        for (int w = 0; w < windows.length; w++) {
+            sums[w] = new long[windows[w].buckets];
+            counts[w] = new long[windows[w].buckets];
+        }
+
+        for (int p = 0; p < times.length; p++) {
+            long time = times[p];
+            for (int w = 0; w < windows.length; w++) {
+                Window window = windows[w];
+                if (time < window.startMillis) {
+                    continue;
+                }
+                long bucket = (time - window.startMillis) / window.intervalMillis;
+                if (bucket < window.buckets) {
+                    sums[w][(int) bucket] += priceSums[p];
+                    counts[w][(int) bucket] += volumes[p];
+                }
+            }
+        }
+
+        // 합계 배열을 평균가로 덮어씀
+        for (int w = 0; w < windows.length; w++) {
+            for (int b = 0; b < sums[w].length; b++) {
+                sums[w][b] = counts[w][b] == 0 ? 0 : divideHalfEven(sums[w][b], counts[w][b]);
+            }
+        }
+        return sums;
+    }
+
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long twiceRemainder = 2 * (dividend % divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * 차트 한 개의 기간 - start 부터 end 까지 intervalHours 간격 구간
+     */
+    public static final class Window {
+
+        private final LocalDateTime start;
+        private final long startMillis;
+        private final long intervalMillis;
+        private final int intervalHours;
+        private final int buckets;
+
+        private Window(LocalDateTime start, LocalDateTime end, int intervalHours) {
+            this.start = start;
+            this.startMillis = toMillis(start);
+            this.intervalHours = intervalHours;
+            this.intervalMillis = intervalHours * HOUR_MILLIS;
+            long span = Math.max(0, toMillis(end) - startMillis);
+            this.buckets = (int) ((span + intervalMillis - 1) / intervalMillis);
+        }
+
+        public static Window of(LocalDateTime start, LocalDateTime end, int intervalHours) {
+            return new Window(start, end, intervalHours);
+        }
+
+        public List<AveragePriceDto> toPrices(long[] averages) {
+            List<AveragePriceDto> prices = new ArrayList<>(averages.length);
+            for (int b = 0; b < averages.length; b++) {
+                prices.add(new AveragePriceDto(start.plusHours((long) b * intervalHours), BigDecimal.valueOf(averages[b])));
+            }
+            return prices;
+        }
+    }
+}
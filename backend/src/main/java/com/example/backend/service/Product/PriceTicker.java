@@ -0,0 +1,139 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.entity.Product;
+import com.example.backend.repository.Product.ProductRepository;
+import com.example.backend.service.matching.TradeExecutedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모델번호별 최근 체결 시세 (최근가, 이전가, 변동률, 차액)
+ * 체결 커밋 후 이벤트로 메모리에서 갱신하고, 조회는 DB 를 거치지 않는다.
+ * DB(Product) 반영은 모아서 주기적으로 한 트랜잭션에 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PriceTicker {
+
+    private final ProductRepository productRepository;
+
+    // 체결이 없는 모델 표시 (매 조회마다 DB 를 다시 보지 않도록 저장, 첫 체결 시 교체)
+    private static final Tick NO_TRADE = new Tick(null, null, null, null, null);
+
+    private final Map<String, Tick> ticks = new ConcurrentHashMap<>();
+    // 아직 DB 에 저장하지 않은 시세 (체결된 productId -> 마지막 시세)
+    private final Map<Long, Tick> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 메모리에 없으면 마지막으로 저장된 시세로 초기화 (모델당 최초 1회만 DB 조회)
+     * 체결 이력이 없는 모델도 NO_TRADE 로 저장해 두고, 없는 모델번호는 저장하지 않는다.
+     */
+    public Optional<Tick> get(String modelNum) {
+        Tick tick = ticks.get(modelNum);
+        if (tick == null) {
+            Optional<Product> product = productRepository.findFirstByModelNumOrderByLatestDateDesc(modelNum);
+            if (product.isEmpty()) {
+                return Optional.empty();
+            }
+            Tick loaded = product.get().getLatestPrice() != null ? Tick.from(product.get()) : NO_TRADE;
+            Tick current = ticks.putIfAbsent(modelNum, loaded);
+            tick = current != null ? current : loaded;
+        }
+        return tick == NO_TRADE ? Optional.empty() : Optional.of(tick);
+    }
+
+    // 같은 모델번호의 체결은 한 샤드 스레드에서 순서대로 들어온다 (상품 상세 캐시 무효화보다 먼저 반영)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrade(TradeExecutedEvent event) {
+        Tick stored = get(event.getModelNum()).orElse(null);
+        Tick tick = ticks.compute(event.getModelNum(),
+                (modelNum, current) -> Tick.next(current != null && current != NO_TRADE ? current : stored, event));
+        pending.put(event.getProductId(), tick);
+    }
+
+    @Scheduled(fixedDelayString = "${product.ticker.flush-interval-ms:5000}")
+    @Transactional
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Tick> batch = new HashMap<>();
+        for (Long productId : List.copyOf(pending.keySet())) {
+            Tick tick = pending.remove(productId);
+            if (tick != null) {
+                batch.put(productId, tick);
+            }
+        }
+
+        // 저장에 실패하면 그 사이 들어온 시세가 없을 때만 다시 대기열에 넣음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    batch.forEach(pending::putIfAbsent);
+                }
+            }
+        });
+
+        for (Product product : productRepository.findAllById(batch.keySet())) {
+            Tick tick = batch.get(product.getProductId());
+            product.updateTicker(tick.getLatestPrice(), tick.getPreviousPrice(), tick.getChangePercentage(),
+                    tick.getDifferenceContract(), tick.getTradeTime());
+        }
+        log.info("체결 시세 저장 - {}건", batch.size());
+    }
+
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class Tick {
+
+        private final BigDecimal latestPrice;
+        private final BigDecimal previousPrice;
+        private final Double changePercentage;
+        private final Long differenceContract;
+        private final LocalDateTime tradeTime;
+
+        static Tick from(Product product) {
+            return new Tick(product.getLatestPrice(), product.getPreviousPrice(), product.getPreviousPercentage(),
+                    product.getDifferenceContract(), product.getLatestDate());
+        }
+
+        // 직전 시세 대비 차액 / 변동률 (소수점 첫째 자리) 계산
+        static Tick next(Tick current, TradeExecutedEvent event) {
+            BigDecimal price = event.getTradePrice();
+            BigDecimal previous = current != null ? current.latestPrice : null;
+            if (previous == null || previous.signum() == 0) {
+                return new Tick(price, previous, 0.0, 0L, event.getTradeTime());
+            }
+            BigDecimal difference = price.subtract(previous);
+            double changePercentage = difference.divide(previous, MathContext.DECIMAL128)
+                    .multiply(BigDecimal.valueOf(100))
+                    .setScale(1, RoundingMode.HALF_EVEN)
+                    .doubleValue();
+            return new Tick(price, previous, changePercentage, difference.longValue(), event.getTradeTime());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.entity.Product;
+import com.example.backend.entity.enumData.ProductStatus;
+import com.example.backend.repository.Product.ProductRepository;
+import com.example.backend.repository.Trade.TradeRepository;
+import com.example.backend.service.matching.TradeExecutedEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브랜드 / 상품명 / 모델번호 자동완성
+ * 정규화한 문자열로 트라이를 만들고, 노드마다 그 접두어로 시작하는 후보 중 체결 수가 많은 상위 TOP_K 개를 미리 들고 있다.
+ * 조회는 접두어 길이만큼 내려가서 노드의 목록을 그대로 반환한다. (하위 노드 탐색 없음)
+ * 체결 수는 늘어나기만 하므로 체결 / 등록 시 해당 후보의 경로에 있는 노드 목록만 갱신한다.
+ * 변경은 한 번에 하나씩(synchronized), 조회는 불변 배열을 교체하는 방식이라 락 없이 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ProductAutocomplete {
+
+    public static final int TOP_K = 10;
+
+    private final ProductRepository productRepository;
+    private final TradeRepository tradeRepository;
+
+    private final Node root = new Node();
+    // 후보 번호 -> 후보 (추가될 때만 새 배열로 교체)
+    private volatile Suggestion[] suggestions = new Suggestion[0];
+    private int suggestionCount;
+    // (종류 + 정규화 문자열) -> 후보 번호
+    private final Map<String, Integer> byKey = new HashMap<>();
+    // 모델번호 -> 해당 모델의 후보 번호들 (상품명, 모델번호, 브랜드)
+    private final Map<String, int[]> byModelNum = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        long start = System.currentTimeMillis();
+        Map<String, Long> tradeCounts = new HashMap<>();
+        for (Object[] row : tradeRepository.countByModelNum()) {
+            tradeCounts.put((String) row[0], (Long) row[1]);
+        }
+        List<Product> products = productRepository.findByProductStatus(ProductStatus.REGISTERED);
+        products.sort(Comparator.comparing(Product::getProductId));
+        for (Product product : products) {
+            add(product, tradeCounts.getOrDefault(product.getModelNum(), 0L));
+        }
+        log.info("자동완성 색인 생성 - 후보 : {}개, {}ms", suggestionCount, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductRegistered(ProductRegisteredEvent event) {
+        productRepository.findById(event.getProductId()).ifPresent(product -> {
+            synchronized (this) {
+                add(product, 0L);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTrade(TradeExecutedEvent event) {
+        int[] ids = byModelNum.get(event.getModelNum());
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            Suggestion suggestion = suggestions[id];
+            suggestion.tradeCount++;
+            promote(suggestion);
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 후보 중 체결 수가 많은 순으로 최대 limit 개
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        String key = ProductSearchIndex.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        // top 을 먼저 읽어야 그 안의 번호가 모두 들어있는 후보 배열을 보게 됨
+        int[] top = node.top;
+        Suggestion[] all = suggestions;
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && result.size() < limit; i++) {
+            result.add(all[top[i]]);
+        }
+        return result;
+    }
+
+    // 모델번호당 한 번만 추가 (같은 모델의 다른 사이즈는 건너뜀), 브랜드 / 같은 상품명은 후보 하나에 체결 수를 합침
+    private void add(Product product, long tradeCount) {
+        if (byModelNum.containsKey(product.getModelNum())) {
+            return;
+        }
+        int[] ids = {
+                suggestion(SuggestionType.NAME, product.getProductName(), product.getModelNum(), tradeCount),
+                suggestion(SuggestionType.MODEL_NUM, product.getModelNum(), product.getModelNum(), tradeCount),
+                suggestion(SuggestionType.BRAND, product.getProductBrand(), null, tradeCount)
+        };
+        byModelNum.put(product.getModelNum(), Arrays.stream(ids).filter(id -> id >= 0).toArray());
+    }
+
+    private int suggestion(SuggestionType type, String text, String modelNum, long tradeCount) {
+        String key = ProductSearchIndex.normalize(text);
+        if (key.isEmpty()) {
+            return -1;
+        }
+        Integer existing = byKey.get(type.name() + ':' + key);
+        if (existing != null) {
+            Suggestion suggestion = suggestions[existing];
+            suggestion.tradeCount += tradeCount;
+            promote(suggestion);
+            return existing;
+        }
+
+        int id = suggestionCount++;
+        Suggestion suggestion = new Suggestion(id, type, text, modelNum, key, tradeCount);
+        // 노드 목록(top)에 번호가 보이기 전에 후보 배열에 먼저 넣음 (모자라면 두 배로 늘린 새 배열로 교체)
+        Suggestion[] current = suggestions;
+        if (id >= current.length) {
+            current = Arrays.copyOf(current, Math.max(16, current.length * 2));
+        }
+        current[id] = suggestion;
+        suggestions = current;
+        byKey.put(type.name() + ':' + key, id);
+        promote(suggestion);
+        return id;
+    }
+
+    // 후보 경로의 모든 노드에서 상위 목록에 반영 (없으면 노드 생성)
+    private void promote(Suggestion suggestion) {
+        Node node = root;
+        for (int i = 0; i < suggestion.key.length(); i++) {
+            node = node.childOrCreate(suggestion.key.charAt(i));
+            node.offer(suggestion, suggestions);
+        }
+    }
+
+    public enum SuggestionType {
+        BRAND, NAME, MODEL_NUM
+    }
+
+    @Getter
+    public static class Suggestion {
+
+        private final int id;
+        private final SuggestionType type;
+        private final String text;
+        // 상품명 / 모델번호 후보의 모델 (브랜드는 null)
+        private final String modelNum;
+        @JsonIgnore
+        private final String key;
+        private volatile long tradeCount;
+
+        private Suggestion(int id, SuggestionType type, String text, String modelNum, String key, long tradeCount) {
+            this.id = id;
+            this.type = type;
+            this.text = text;
+            this.modelNum = modelNum;
+            this.key = key;
+            this.tradeCount = tradeCount;
+        }
+    }
+
+    private static final class Node {
+
+        private static final int[] EMPTY = new int[0];
+
+        // 자식 글자 / 노드 (글자 오름차순, 이진 탐색)
+        private volatile Edges edges = Edges.EMPTY;
+        // 체결 수 내림차순 후보 번호 (최대 TOP_K)
+        private volatile int[] top = EMPTY;
+
+        private Node child(char c) {
+            Edges current = edges;
+            int index = Arrays.binarySearch(current.keys, c);
+            return index >= 0 ? current.children[index] : null;
+        }
+
+        private Node childOrCreate(char c) {
+            Edges current = edges;
+            int index = Arrays.binarySearch(current.keys, c);
+            if (index >= 0) {
+                return current.children[index];
+            }
+            int insert = -index - 1;
+            int length = current.keys.length;
+            Node node = new Node();
+
+            char[] keys = new char[length + 1];
+            Node[] children = new Node[length + 1];
+            System.arraycopy(current.keys, 0, keys, 0, insert);
+            System.arraycopy(current.children, 0, children, 0, insert);
+            keys[insert] = c;
+            children[insert] = node;
+            System.arraycopy(current.keys, insert, keys, insert + 1, length - insert);
+            System.arraycopy(current.children, insert, children, insert + 1, length - insert);
+            edges = new Edges(keys, children);
+            return node;
+        }
+
+        // 체결 수가 늘어난 (또는 새) 후보를 상위 목록에 반영
+        private void offer(Suggestion suggestion, Suggestion[] all) {
+            int[] current = top;
+            int position = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == suggestion.id) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0 && current.length == TOP_K
+                    && all[current[TOP_K - 1]].tradeCount >= suggestion.tradeCount) {
+                return;
+            }
+
+            int[] updated;
+            if (position >= 0) {
+                updated = current.clone();
+            } else {
+                updated = Arrays.copyOf(current, Math.min(current.length + 1, TOP_K));
+                position = updated.length - 1;
+                updated[position] = suggestion.id;
+            }
+            // 앞쪽으로 자리 이동 (체결 수 내림차순 유지)
+            while (position > 0 && all[updated[position - 1]].tradeCount < suggestion.tradeCount) {
+                updated[position] = updated[position - 1];
+                updated[position - 1] = suggestion.id;
+                position--;
+            }
+            top = updated;
+        }
+    }
+
+    // 글자 배열과 노드 배열을 한 번에 교체하기 위한 묶음
+    private static final class Edges {
+
+        private static final Edges EMPTY = new Edges(new char[0], new Node[0]);
+
+        private final char[] keys;
+        private final Node[] children;
+
+        private Edges(char[] keys, Node[] children) {
+            this.keys = keys;
+            this.children = children;
+        }
+    }
+}
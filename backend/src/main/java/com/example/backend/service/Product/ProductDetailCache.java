@@ -0,0 +1,242 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.dto.product.Detail.ProductDetailDto;
+import com.example.backend.service.matching.BookChangedEvent;
+import com.example.backend.service.matching.TradeExecutedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 모델번호별 상품 상세(ProductDetailDto) 캐시
+ * 만료 시간(TTL) 대신 호가창 / 체결 / 리뷰 이벤트가 커밋된 뒤 해당 모델만 무효화한다.
+ * 무효화는 모델별 버전을 올리는 방식이라, 무효화 전에 조회를 시작한 결과는 저장되지 않는다.
+ * 같은 모델을 동시에 여러 요청이 조회하면 한 요청만 만들고 나머지는 그 결과를 기다린다.
+ * Redis 계층(product.detail.cache.redis-enabled)은 선택이며, Redis 쪽 버전 키를 올려 무효화한다.
+ * 일부 항목이 빠진 결과(Loaded.cacheable = false)는 Redis / 로컬 어디에도 저장하지 않는다.
+ */
+@Component
+@Log4j2
+public class ProductDetailCache {
+
+    private static final String REDIS_KEY = "product:detail:";
+
+    private final Map<String, Cached> local = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ProductDetailDto>> loading = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final long waitMillis;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductDetailCache(@Value("${product.detail.cache.max-size:10000}") int maxSize,
+                              @Value("${product.detail.cache.redis-enabled:false}") boolean redisEnabled,
+                              @Value("${product.detail.cache.redis-ttl-minutes:30}") long redisTtlMinutes,
+                              @Value("${product.detail.timeout-ms:1000}") long waitMillis,
+                              RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+        this.waitMillis = waitMillis;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.hits = Counter.builder("product.detail.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("product.detail.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환하고, 없으면 loader 로 한 번만 만든다. (loader 가 null 을 반환하면 저장하지 않음)
+     * 다른 요청이 만드는 중이면 상세 조회 마감 시간(product.detail.timeout-ms)까지만 기다린다.
+     */
+    public ProductDetailDto get(String modelNum, Supplier<Loaded> loader) {
+        long version = version(modelNum).get();
+        Cached cached = local.get(modelNum);
+        if (cached != null && cached.version == version) {
+            hits.increment();
+            return cached.detail;
+        }
+        misses.increment();
+
+        CompletableFuture<ProductDetailDto> mine = new CompletableFuture<>();
+        CompletableFuture<ProductDetailDto> inFlight = loading.putIfAbsent(modelNum, mine);
+        if (inFlight != null) {
+            return await(modelNum, inFlight);
+        }
+
+        try {
+            ProductDetailDto detail = load(modelNum, version, loader);
+            mine.complete(detail);
+            return detail;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(modelNum, mine);
+        }
+    }
+
+    // 먼저 시작한 요청의 결과를 기다림 (실패하면 같은 예외를 그대로 던짐)
+    private ProductDetailDto await(String modelNum, CompletableFuture<ProductDetailDto> inFlight) {
+        try {
+            return inFlight.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("상품 상세 조회 시간이 초과되었습니다: " + modelNum);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 상세 조회 중 중단되었습니다: " + modelNum);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private ProductDetailDto load(String modelNum, long version, Supplier<Loaded> loader) {
+        String redisVersion = redisEnabled ? redisVersion(modelNum) : null;
+        ProductDetailDto detail = redisVersion != null ? readRedis(modelNum, redisVersion) : null;
+        if (detail == null) {
+            Loaded loaded = loader.get();
+            if (loaded == null || loaded.detail == null) {
+                return null;
+            }
+            detail = loaded.detail;
+            // 일부 항목이 빠진 결과는 이번 요청에만 씀
+            if (!loaded.cacheable) {
+                return detail;
+            }
+            if (redisVersion != null) {
+                writeRedis(modelNum, redisVersion, detail);
+            }
+        }
+
+        // 만드는 도중 무효화되었다면 이번 요청에만 쓰고 저장하지 않음
+        if (version(modelNum).get() == version) {
+            if (local.size() >= maxSize) {
+                local.clear();
+            }
+            local.put(modelNum, new Cached(version, detail));
+        }
+        return detail;
+    }
+
+    public void evict(String modelNum) {
+        version(modelNum).incrementAndGet();
+        local.remove(modelNum);
+        if (redisEnabled) {
+            try {
+                redisTemplate.opsForValue().increment(REDIS_KEY + modelNum + ":version");
+            } catch (RuntimeException e) {
+                log.warn("상품 상세 Redis 캐시 무효화 실패 : {}", modelNum, e);
+            }
+        }
+    }
+
+    // 시세(PriceTicker)가 먼저 갱신된 뒤 무효화되도록 가장 마지막에 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrade(TradeExecutedEvent event) {
+        evict(event.getModelNum());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        evict(event.getModelNum());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPhotoReviewChanged(PhotoReviewChangedEvent event) {
+        evict(event.getModelNum());
+    }
+
+    private AtomicLong version(String modelNum) {
+        return versions.computeIfAbsent(modelNum, key -> new AtomicLong());
+    }
+
+    private String redisVersion(String modelNum) {
+        try {
+            String version = redisTemplate.opsForValue().get(REDIS_KEY + modelNum + ":version");
+            return version != null ? version : "0";
+        } catch (RuntimeException e) {
+            log.warn("상품 상세 Redis 캐시 버전 조회 실패 : {}", modelNum, e);
+            return null;
+        }
+    }
+
+    private ProductDetailDto readRedis(String modelNum, String redisVersion) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY + modelNum + ":" + redisVersion);
+            return json != null ? objectMapper.readValue(json, ProductDetailDto.class) : null;
+        } catch (Exception e) {
+            log.warn("상품 상세 Redis 캐시 조회 실패 : {}", modelNum, e);
+            return null;
+        }
+    }
+
+    // 버전별 키에 저장하므로 무효화 후 늦게 저장된 값은 읽히지 않고 TTL 로 정리된다
+    private void writeRedis(String modelNum, String redisVersion, ProductDetailDto detail) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY + modelNum + ":" + redisVersion,
+                    objectMapper.writeValueAsString(detail), redisTtl);
+        } catch (Exception e) {
+            log.warn("상품 상세 Redis 캐시 저장 실패 : {}", modelNum, e);
+        }
+    }
+
+    /**
+     * loader 가 만든 상품 상세와 저장 여부
+     */
+    public static final class Loaded {
+
+        private final ProductDetailDto detail;
+        private final boolean cacheable;
+
+        private Loaded(ProductDetailDto detail, boolean cacheable) {
+            this.detail = detail;
+            this.cacheable = cacheable;
+        }
+
+        public static Loaded of(ProductDetailDto detail, boolean cacheable) {
+            return new Loaded(detail, cacheable);
+        }
+    }
+
+    private static final class Cached {
+
+        private final long version;
+        private final ProductDetailDto detail;
+
+        private Cached(long version, ProductDetailDto detail) {
+            this.version = version;
+            this.detail = detail;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.entity.Product;
+import com.example.backend.entity.enumData.ProductStatus;
+import com.example.backend.repository.Product.ProductRepository;
+import com.example.backend.service.matching.BookChangedEvent;
+import com.example.backend.service.matching.OrderBookRecoveredEvent;
+import com.example.backend.service.matching.TopOfBook;
+import com.example.backend.service.matching.TopOfBookCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 샵 페이지 필터(브랜드, 대분류, 소분류, 사이즈, 가격대)용 메모리 비트맵 색인
+ * 모델번호마다 문서 번호를 주고, 필터 값마다 해당 모델들의 BitSet 을 유지한다.
+ * 요청마다 BitSet 교집합으로 결과와 필터 값별 개수를 함께 계산하므로 GROUP BY 쿼리가 필요 없다.
+ * 문서 번호는 (등록 시간, 모델번호) 순으로 매기므로 번호 역순이 곧 최신 등록순이다.
+ * 가격대와 진행 중 구매 입찰 여부는 호가창 변경 이벤트로 모델번호를 대기열에 올려 두고,
+ * 주기적으로 한 번의 쓰기 락 안에서 모아서 갱신한다. (샤드 스레드가 조회 락을 기다리지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ProductFacetIndex {
+
+    public static final String BRAND = "brand";
+    public static final String MAIN_DEPARTMENT = "mainDepartment";
+    public static final String SUB_DEPARTMENT = "subDepartment";
+    public static final String SIZE = "size";
+    public static final String PRICE_BAND = "priceBand";
+
+    private static final List<String> FACETS = List.of(BRAND, MAIN_DEPARTMENT, SUB_DEPARTMENT, SIZE, PRICE_BAND);
+
+    // 가격대 경계 (구매 입찰 최저가 기준, 원)
+    private static final long[] PRICE_BOUNDS = {100_000L, 300_000L, 500_000L, 1_000_000L};
+
+    private final ProductRepository productRepository;
+    private final TopOfBookCache topOfBookCache;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 필터 이름 -> 값 -> 문서 번호 BitSet
+    private final Map<String, Map<String, BitSet>> facets = new HashMap<>();
+    // 진행 중 구매 입찰이 있는 모델 (샵 목록 대상)
+    private final BitSet active = new BitSet();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, Integer> byModelNum = new HashMap<>();
+    private boolean built;
+
+    // 가격대 / 진행 중 여부를 다시 계산할 모델번호
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 호가창 복구가 끝난 뒤(가격대 계산에 필요) 등록 상품 전체로 색인을 만든다.
+     */
+    @EventListener(OrderBookRecoveredEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            Map<String, List<Product>> productsByModel = productRepository.findByProductStatus(ProductStatus.REGISTERED).stream()
+                    .collect(Collectors.groupingBy(Product::getModelNum));
+
+            // 모델별 최초 등록 상품 기준으로 (등록 시간, 모델번호) 오름차순
+            List<List<Product>> models = new ArrayList<>(productsByModel.values());
+            models.forEach(products -> products.sort(Comparator.comparing(Product::getProductId)));
+            models.sort(Comparator.comparing((List<Product> products) -> registerDate(products.get(0)))
+                    .thenComparing(products -> products.get(0).getModelNum()));
+
+            facets.clear();
+            active.clear();
+            documents.clear();
+            byModelNum.clear();
+            models.forEach(products -> products.forEach(this::index));
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("샵 필터 색인 생성 - 모델 : {}개, {}ms", documents.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductRegistered(ProductRegisteredEvent event) {
+        productRepository.findById(event.getProductId()).ifPresent(product -> {
+            lock.writeLock().lock();
+            try {
+                // 색인 전이면 build 에서 DB 를 읽을 때 포함됨
+                if (built) {
+                    index(product);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        dirty.add(event.getModelNum());
+    }
+
+    @Scheduled(fixedDelayString = "${product.facet.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<String> batch = new ArrayList<>();
+        for (String modelNum : List.copyOf(dirty)) {
+            if (dirty.remove(modelNum)) {
+                batch.add(modelNum);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            for (String modelNum : batch) {
+                Integer id = byModelNum.get(modelNum);
+                if (id != null) {
+                    refreshBook(documents.get(id));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건에 맞는 모델을 최신 등록순으로 size 개, 그리고 필터 값별 개수
+     * 같은 필터 안의 값들은 OR, 서로 다른 필터끼리는 AND
+     * 필터 값별 개수는 해당 필터 자신을 제외한 나머지 조건을 적용한 결과 (다른 값을 골랐을 때의 개수)
+     * @param afterModelNum 이전 페이지의 마지막 모델번호 (첫 페이지는 null)
+     */
+    public Result query(Map<String, Set<String>> filters, String afterModelNum, int size) {
+        lock.readLock().lock();
+        try {
+            Map<String, BitSet> selected = new HashMap<>();
+            filters.forEach((facet, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    selected.put(facet, union(facet, values));
+                }
+            });
+
+            BitSet matched = (BitSet) active.clone();
+            selected.values().forEach(matched::and);
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (String facet : FACETS) {
+                BitSet others = (BitSet) active.clone();
+                selected.forEach((other, bits) -> {
+                    if (!other.equals(facet)) {
+                        others.and(bits);
+                    }
+                });
+                Map<String, Integer> valueCounts = new TreeMap<>();
+                facets.getOrDefault(facet, Map.of()).forEach((value, bits) -> {
+                    BitSet both = (BitSet) others.clone();
+                    both.and(bits);
+                    int count = both.cardinality();
+                    if (count > 0) {
+                        valueCounts.put(value, count);
+                    }
+                });
+                counts.put(facet, valueCounts);
+            }
+
+            int from = matched.length() - 1;
+            if (afterModelNum != null) {
+                Integer after = byModelNum.get(afterModelNum);
+                if (after == null) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.");
+                }
+                from = after - 1;
+            }
+            List<Document> page = new ArrayList<>(size);
+            int id = from < 0 ? -1 : matched.previousSetBit(from);
+            while (id >= 0 && page.size() < size) {
+                page.add(documents.get(id));
+                id = id == 0 ? -1 : matched.previousSetBit(id - 1);
+            }
+            return new Result(page, id >= 0, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet union(String facet, Set<String> values) {
+        BitSet bits = new BitSet();
+        Map<String, BitSet> byValue = facets.getOrDefault(facet, Map.of());
+        for (String value : values) {
+            BitSet valueBits = byValue.get(value);
+            if (valueBits != null) {
+                bits.or(valueBits);
+            }
+        }
+        return bits;
+    }
+
+    // 쓰기 락 안에서 호출 - 새 모델이면 문서를 추가하고, 있으면 사이즈만 추가
+    private void index(Product product) {
+        Integer id = byModelNum.get(product.getModelNum());
+        if (id == null) {
+            id = documents.size();
+            Document document = new Document(id, product);
+            documents.add(document);
+            byModelNum.put(product.getModelNum(), id);
+            set(BRAND, product.getProductBrand(), id);
+            set(MAIN_DEPARTMENT, product.getMainDepartment(), id);
+            set(SUB_DEPARTMENT, product.getSubDepartment(), id);
+            refreshBook(document);
+        }
+        set(SIZE, product.getProductSize(), id);
+    }
+
+    // 진행 중 구매 입찰 여부와 가격대를 호가창 캐시 기준으로 다시 설정
+    private void refreshBook(Document document) {
+        TopOfBook top = topOfBookCache.get(document.modelNum);
+        active.set(document.id, top.getBuyingCount() > 0);
+
+        String band = top.getLowestBuyingPrice() != null ? priceBand(top.getLowestBuyingPrice()) : null;
+        if (document.priceBand != null && !document.priceBand.equals(band)) {
+            facets.get(PRICE_BAND).get(document.priceBand).clear(document.id);
+        }
+        if (band != null) {
+            set(PRICE_BAND, band, document.id);
+        }
+        document.priceBand = band;
+    }
+
+    private void set(String facet, String value, int id) {
+        if (value == null) {
+            return;
+        }
+        facets.computeIfAbsent(facet, key -> new HashMap<>())
+                .computeIfAbsent(value, key -> new BitSet())
+                .set(id);
+    }
+
+    // 예: "0-100000", "100000-300000", ..., "1000000-"
+    static String priceBand(BigDecimal price) {
+        long lower = 0;
+        for (long bound : PRICE_BOUNDS) {
+            if (price.compareTo(BigDecimal.valueOf(bound)) < 0) {
+                return lower + "-" + bound;
+            }
+            lower = bound;
+        }
+        return lower + "-";
+    }
+
+    private static LocalDateTime registerDate(Product product) {
+        return product.getCreateDate() != null ? product.getCreateDate() : LocalDateTime.now();
+    }
+
+    /**
+     * 샵 목록에 보여줄 모델 대표 상품 정보
+     */
+    @Getter
+    public static class Document {
+
+        private final int id;
+        private final Long productId;
+        private final String modelNum;
+        private final String productBrand;
+        private final String productName;
+        private final String subDepartment;
+        private final String productImg;
+        private String priceBand;
+
+        private Document(int id, Product product) {
+            this.id = id;
+            this.productId = product.getProductId();
+            this.modelNum = product.getModelNum();
+            this.productBrand = product.getProductBrand();
+            this.productName = product.getProductName();
+            this.subDepartment = product.getSubDepartment();
+            this.productImg = product.getProductImg();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+
+        private final List<Document> documents;
+        private final boolean hasNext;
+        // 필터 이름 -> 값 -> 개수
+        private final Map<String, Map<String, Integer>> facetCounts;
+    }
+}
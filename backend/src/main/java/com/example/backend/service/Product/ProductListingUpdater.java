@@ -0,0 +1,211 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.entity.Product;
+import com.example.backend.entity.ProductListing;
+import com.example.backend.entity.enumData.ProductStatus;
+import com.example.backend.repository.Product.ProductListingRepository;
+import com.example.backend.repository.Product.ProductRepository;
+import com.example.backend.repository.Trade.TradeRepository;
+import com.example.backend.service.matching.BookChangedEvent;
+import com.example.backend.service.matching.BookEntry;
+import com.example.backend.service.matching.BookSide;
+import com.example.backend.service.matching.MatchingEngine;
+import com.example.backend.service.matching.OrderBookRecoveredEvent;
+import com.example.backend.service.matching.TopOfBook;
+import com.example.backend.service.matching.TopOfBookCache;
+import com.example.backend.service.matching.TradeExecutedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 요약(ProductListing) 갱신
+ * 입찰 / 체결 / 상품 등록 이벤트가 커밋되면 모델번호를 변경 대기열에 올리고,
+ * 주기적으로 호가창 캐시(TopOfBookCache) 값을 읽어 바뀐 모델만 한 트랜잭션에 저장한다.
+ * 서버 시작 시에는 호가창 복구가 끝난 뒤 전체 요약을 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ProductListingUpdater {
+
+    private final ProductListingRepository productListingRepository;
+    private final ProductRepository productRepository;
+    private final TradeRepository tradeRepository;
+    private final TopOfBookCache topOfBookCache;
+    private final MatchingEngine matchingEngine;
+
+    // 변경 대기 중인 모델번호 -> 그 사이 들어온 마지막 입찰 / 체결 시간
+    private final Map<String, Activity> dirty = new ConcurrentHashMap<>();
+
+    private volatile boolean rebuilt;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        LocalDateTime placedAt = event.getPlacedAt();
+        mark(event.getModelNum(), new Activity(
+                event.getSide() == BookSide.BUYING ? placedAt : null,
+                event.getSide() == BookSide.SALES ? placedAt : null,
+                null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrade(TradeExecutedEvent event) {
+        mark(event.getModelNum(), new Activity(null, null, event.getTradeTime()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductRegistered(ProductRegisteredEvent event) {
+        mark(event.getModelNum(), Activity.NONE);
+    }
+
+    private void mark(String modelNum, Activity activity) {
+        dirty.merge(modelNum, activity, Activity::merge);
+    }
+
+    @Scheduled(fixedDelayString = "${product.listing.flush-interval-ms:1000}")
+    @Transactional
+    public synchronized void flush() {
+        if (!rebuilt || dirty.isEmpty()) {
+            return;
+        }
+        Map<String, Activity> batch = new HashMap<>();
+        for (String modelNum : List.copyOf(dirty.keySet())) {
+            Activity activity = dirty.remove(modelNum);
+            if (activity != null) {
+                batch.put(modelNum, activity);
+            }
+        }
+
+        // 저장에 실패하면 다시 대기열에 합침
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    batch.forEach(ProductListingUpdater.this::mark);
+                }
+            }
+        });
+
+        Map<String, ProductListing> listings = productListingRepository.findAllById(batch.keySet()).stream()
+                .collect(Collectors.toMap(ProductListing::getModelNum, Function.identity()));
+        List<ProductListing> created = new ArrayList<>();
+
+        batch.forEach((modelNum, activity) -> {
+            ProductListing listing = listings.get(modelNum);
+            if (listing == null) {
+                // 판매 등록된 상품이 없는 모델은 목록에 올리지 않음
+                List<Product> products = productRepository.findAllByModelNumAndStatus(modelNum);
+                if (products.isEmpty()) {
+                    return;
+                }
+                listing = newListing(products);
+                created.add(listing);
+            }
+            apply(listing, activity);
+        });
+        productListingRepository.saveAll(created);
+        log.debug("상품 목록 요약 갱신 - {}건 (신규 {}건)", batch.size(), created.size());
+    }
+
+    /**
+     * 등록된 전체 상품과 복구된 호가창으로 요약을 다시 만든다.
+     */
+    @EventListener(OrderBookRecoveredEvent.class)
+    @Transactional
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        Map<String, List<Product>> productsByModel = productRepository.findByProductStatus(ProductStatus.REGISTERED).stream()
+                .collect(Collectors.groupingBy(Product::getModelNum));
+
+        // 진행 중 입찰의 마지막 등록 시간
+        Map<String, Activity> activities = new HashMap<>();
+        for (BookEntry entry : matchingEngine.entries()) {
+            Activity activity = entry.getSide() == BookSide.BUYING
+                    ? new Activity(entry.getPlacedAt(), null, null)
+                    : new Activity(null, entry.getPlacedAt(), null);
+            activities.merge(entry.getKey().getModelNum(), activity, Activity::merge);
+        }
+        for (Object[] row : tradeRepository.findLastTradeTimes()) {
+            activities.merge((String) row[0], new Activity(null, null, (LocalDateTime) row[1]), Activity::merge);
+        }
+
+        Map<String, ProductListing> listings = productListingRepository.findAll().stream()
+                .collect(Collectors.toMap(ProductListing::getModelNum, Function.identity()));
+        List<ProductListing> created = new ArrayList<>();
+
+        productsByModel.forEach((modelNum, products) -> {
+            ProductListing listing = listings.remove(modelNum);
+            if (listing == null) {
+                listing = newListing(products);
+                created.add(listing);
+            }
+            apply(listing, activities.getOrDefault(modelNum, Activity.NONE));
+        });
+        productListingRepository.saveAll(created);
+        // 더 이상 판매 등록된 상품이 없는 모델
+        productListingRepository.deleteAllInBatch(listings.values());
+
+        rebuilt = true;
+        log.info("상품 목록 요약 재생성 - 모델 : {}개, 신규 : {}개, 삭제 : {}개, {}ms",
+                productsByModel.size(), created.size(), listings.size(), System.currentTimeMillis() - start);
+    }
+
+    // 가장 먼저 등록된 상품을 대표 상품으로 사용
+    private ProductListing newListing(List<Product> products) {
+        Product first = products.stream()
+                .min(Comparator.comparing(Product::getProductId))
+                .orElseThrow();
+        return ProductListing.of(first);
+    }
+
+    private void apply(ProductListing listing, Activity activity) {
+        TopOfBook top = topOfBookCache.get(listing.getModelNum());
+        listing.updateBook(top.getLowestBuyingPrice(), top.getHighestSalesPrice(), top.getBuyingCount(), top.getSalesCount());
+        listing.updateActivity(activity.lastBuyingBidTime, activity.lastSalesBidTime, activity.lastTradeTime);
+    }
+
+    private static final class Activity {
+
+        private static final Activity NONE = new Activity(null, null, null);
+
+        private final LocalDateTime lastBuyingBidTime;
+        private final LocalDateTime lastSalesBidTime;
+        private final LocalDateTime lastTradeTime;
+
+        private Activity(LocalDateTime lastBuyingBidTime, LocalDateTime lastSalesBidTime, LocalDateTime lastTradeTime) {
+            this.lastBuyingBidTime = lastBuyingBidTime;
+            this.lastSalesBidTime = lastSalesBidTime;
+            this.lastTradeTime = lastTradeTime;
+        }
+
+        private static Activity merge(Activity a, Activity b) {
+            return new Activity(latest(a.lastBuyingBidTime, b.lastBuyingBidTime),
+                    latest(a.lastSalesBidTime, b.lastSalesBidTime),
+                    latest(a.lastTradeTime, b.lastTradeTime));
+        }
+
+        private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return b.isAfter(a) ? b : a;
+        }
+    }
+}
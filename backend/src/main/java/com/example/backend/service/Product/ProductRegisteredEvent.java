@@ -0,0 +1,17 @@
+package com.example.backend.service.Product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 요청 상품이 판매 상품으로 등록된 이벤트
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductRegisteredEvent {
+
+    private final Long productId;
+    private final String modelNum;
+}
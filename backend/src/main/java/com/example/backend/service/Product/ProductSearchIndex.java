@@ -0,0 +1,242 @@
+package com.example.backend.service.Product;
+
+import com.example.backend.entity.Product;
+import com.example.backend.entity.enumData.ProductStatus;
+import com.example.backend.repository.Product.ProductRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매 등록(REGISTERED) 상품의 브랜드 / 상품명 / 모델번호 검색용 메모리 역색인
+ * 글자 단위 n-gram(1, 2글자)을 토큰으로 쓰므로 한글 / 영문 모두 부분 문자열 검색이 된다.
+ * 검색어의 2글자 토큰 목록을 교집합한 뒤 실제 포함 여부를 한 번 더 확인한다. (DB LIKE 검색 없음)
+ * 문서는 모델번호 단위이고, 토큰별 문서 번호 배열은 추가할 때마다 새 배열로 교체해서 조회는 락 없이 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ProductSearchIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final ProductRepository productRepository;
+
+    // 문서 번호 -> 문서 (번호는 추가 순서대로 증가)
+    private final Map<Integer, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Integer> byModelNum = new ConcurrentHashMap<>();
+    // 토큰 -> 오름차순 문서 번호
+    private final Map<String, int[]> postings = new ConcurrentHashMap<>();
+    private int nextId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        List<Product> products = productRepository.findByProductStatus(ProductStatus.REGISTERED);
+        products.sort(Comparator.comparing(Product::getProductId));
+        products.forEach(this::add);
+        log.info("상품 검색 색인 생성 - 모델 : {}개, 토큰 : {}개, {}ms",
+                documents.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductRegistered(ProductRegisteredEvent event) {
+        productRepository.findById(event.getProductId()).ifPresent(this::add);
+    }
+
+    /**
+     * 모델번호 단위로 한 번만 색인 (같은 모델의 다른 사이즈는 건너뜀)
+     */
+    public synchronized void add(Product product) {
+        if (byModelNum.containsKey(product.getModelNum())) {
+            return;
+        }
+        int id = nextId++;
+        Document document = new Document(id, product);
+        documents.put(id, document);
+
+        Set<String> tokens = new LinkedHashSet<>();
+        tokenize(document.brandText, tokens);
+        tokenize(document.nameText, tokens);
+        tokenize(document.modelNumText, tokens);
+        for (String token : tokens) {
+            postings.merge(token, new int[]{id}, ProductSearchIndex::append);
+        }
+        byModelNum.put(product.getModelNum(), id);
+    }
+
+    /**
+     * 브랜드 / 상품명 / 모델번호 중 하나에 검색어가 포함된 상품
+     * 검색어로 시작하는 상품을 먼저, 그 다음은 등록 순서대로 최대 limit 개
+     */
+    public List<Document> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] candidates = candidates(normalized);
+        List<Document> prefixHits = new ArrayList<>();
+        List<Document> containHits = new ArrayList<>();
+        for (int id : candidates) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            if (document.startsWith(normalized)) {
+                prefixHits.add(document);
+                if (prefixHits.size() == limit) {
+                    break;
+                }
+            } else if (containHits.size() < limit && document.contains(normalized)) {
+                containHits.add(document);
+            }
+        }
+
+        List<Document> result = new ArrayList<>(Math.min(limit, prefixHits.size() + containHits.size()));
+        result.addAll(prefixHits);
+        for (Document document : containHits) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(document);
+        }
+        return result;
+    }
+
+    // 검색어의 모든 토큰을 가진 문서 (짧은 목록부터 교집합)
+    private int[] candidates(String normalized) {
+        if (normalized.length() == 1) {
+            return postings.getOrDefault(normalized, EMPTY);
+        }
+        List<int[]> lists = new ArrayList<>(normalized.length() - 1);
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            int[] list = postings.get(normalized.substring(i, i + 2));
+            if (list == null) {
+                return EMPTY;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // 문서 번호는 증가 순서로만 추가되므로 끝에 붙이면 정렬이 유지됨
+    private static int[] append(int[] current, int[] added) {
+        int[] merged = Arrays.copyOf(current, current.length + added.length);
+        System.arraycopy(added, 0, merged, current.length, added.length);
+        return merged;
+    }
+
+    // 1글자, 2글자 토큰
+    private static void tokenize(String text, Set<String> tokens) {
+        for (int i = 0; i < text.length(); i++) {
+            tokens.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 전각 / 반각 통일, 소문자, 공백 제거
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 검색 결과 한 건 (모델번호 단위 대표 상품)
+     */
+    @Getter
+    public static class Document {
+
+        private final int id;
+        private final Long productId;
+        private final String modelNum;
+        private final String productBrand;
+        private final String productName;
+        private final String productImg;
+        private final String mainDepartment;
+        private final String subDepartment;
+        private final LocalDateTime registerDate;
+
+        private final String brandText;
+        private final String nameText;
+        private final String modelNumText;
+
+        private Document(int id, Product product) {
+            this.id = id;
+            this.productId = product.getProductId();
+            this.modelNum = product.getModelNum();
+            this.productBrand = product.getProductBrand();
+            this.productName = product.getProductName();
+            this.productImg = product.getProductImg();
+            this.mainDepartment = product.getMainDepartment();
+            this.subDepartment = product.getSubDepartment();
+            this.registerDate = product.getCreateDate();
+            this.brandText = normalize(product.getProductBrand());
+            this.nameText = normalize(product.getProductName());
+            this.modelNumText = normalize(product.getModelNum());
+        }
+
+        private boolean startsWith(String query) {
+            return brandText.startsWith(query) || nameText.startsWith(query) || modelNumText.startsWith(query);
+        }
+
+        private boolean contains(String query) {
+            return brandText.contains(query) || nameText.contains(query) || modelNumText.contains(query);
+        }
+    }
+}
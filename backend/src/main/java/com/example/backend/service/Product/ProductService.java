@@ -3,11 +3,8 @@ package com.example.backend.service.Product;
 import com.example.backend.dto.admin.ProductRespDto;
 import com.example.backend.dto.product.*;
 import com.example.backend.dto.product.Detail.*;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProductService {
@@ -23,7 +20,13 @@ public interface ProductService {
     List<ProductResponseDto> getAllProductsNewSaleBid(String mainDepartment);
 
     // 상품 카테고리에 따라 상품 정보 조회 (소분류)
-    Slice<ProductResponseDto> selectCategoryValue(String subDepartment, Pageable pageable);
+    CursorSliceDto<ProductResponseDto> selectCategoryValue(String subDepartment, String cursor, int size);
+
+    // 브랜드 / 상품명 / 모델번호 검색
+    List<ProductResponseDto> searchProducts(String keyword, int limit);
+
+    // 브랜드 / 상품명 / 모델번호 자동완성 (체결 수 많은 순)
+    List<AutocompleteDto> autocomplete(String prefix, int limit);
 
     // 상세 상품 기본 정보 조회
     ProductDetailDto productDetailInfo(String modelNum);
@@ -49,6 +52,4 @@ public interface ProductService {
     void saveTemporaryBid(BidRequestDto bidRequestDto);
 
     AveragePriceResponseDto getAveragePrices(String modelNum);
-
-    List<AveragePriceDto> calculateAveragePrice(List<AveragePriceDto> allContractData, LocalDateTime firstContractDateTime, LocalDateTime endDate, int intervalHours);
 }
\ No newline at end of file
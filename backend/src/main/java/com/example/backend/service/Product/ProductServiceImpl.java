@@ -4,28 +4,33 @@ import com.example.backend.dto.admin.ProductRespDto;
 import com.example.backend.dto.product.*;
 import com.example.backend.dto.product.Detail.*;
 import com.example.backend.entity.*;
+import com.example.backend.entity.enumData.CandleInterval;
 import com.example.backend.repository.Bidding.BuyingBiddingRepository;
 import com.example.backend.repository.Bidding.SalesBiddingRepository;
 import com.example.backend.repository.Product.PhotoReviewRepository;
 import com.example.backend.repository.Product.ProductRepository;
+import com.example.backend.repository.Trade.PriceCandleRepository;
 import com.example.backend.repository.User.UserRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import com.example.backend.service.matching.BiddingMatchService;
+import com.example.backend.service.matching.BookSide;
+import com.example.backend.service.matching.DepthLadder;
+import com.example.backend.service.matching.DepthLadderCache;
+import com.example.backend.service.matching.MatchingShards;
+import com.example.backend.service.matching.TopOfBook;
+import com.example.backend.service.matching.TopOfBookCache;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-import java.text.DecimalFormat;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,26 +44,57 @@ public class ProductServiceImpl implements ProductService {
     private PhotoReviewRepository photoReviewRepository;
     private UserRepository userRepository;
     private SalesBiddingRepository salesBiddingRepository;
+    private BiddingMatchService biddingMatchService;
+    private TopOfBookCache topOfBookCache;
+    private MatchingShards matchingShards;
+    private PriceCandleRepository priceCandleRepository;
+    private PriceTicker priceTicker;
+    private DetailQueryExecutor detailQueryExecutor;
+    private ProductDetailCache productDetailCache;
+    private DepthLadderCache depthLadderCache;
+    private ProductSearchIndex productSearchIndex;
+    private ProductAutocomplete productAutocomplete;
+    private ApplicationEventPublisher eventPublisher;
+
+    // 입찰 희망 내역에서 사이즈별로 보여줄 가격대 수
+    @Value("${product.detail.depth-levels:10}")
+    private int depthLevels;
 
     @Autowired
     public ProductServiceImpl(ProductRepository productRepository,
                               BuyingBiddingRepository buyingBiddingRepository,
                               PhotoReviewRepository photoReviewRepository,
                               UserRepository userRepository,
-                              SalesBiddingRepository salesBiddingRepository) {
+                              SalesBiddingRepository salesBiddingRepository,
+                              BiddingMatchService biddingMatchService,
+                              TopOfBookCache topOfBookCache,
+                              MatchingShards matchingShards,
+                              PriceCandleRepository priceCandleRepository,
+                              PriceTicker priceTicker,
+                              DetailQueryExecutor detailQueryExecutor,
+                              ProductDetailCache productDetailCache,
+                              DepthLadderCache depthLadderCache,
+                              ProductSearchIndex productSearchIndex,
+                              ProductAutocomplete productAutocomplete,
+                              ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.buyingBiddingRepository = buyingBiddingRepository;
         this.photoReviewRepository = photoReviewRepository;
         this.userRepository = userRepository;
         this.salesBiddingRepository = salesBiddingRepository;
+        this.biddingMatchService = biddingMatchService;
+        this.topOfBookCache = topOfBookCache;
+        this.matchingShards = matchingShards;
+        this.priceCandleRepository = priceCandleRepository;
+        this.priceTicker = priceTicker;
+        this.detailQueryExecutor = detailQueryExecutor;
+        this.productDetailCache = productDetailCache;
+        this.depthLadderCache = depthLadderCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productAutocomplete = productAutocomplete;
+        this.eventPublisher = eventPublisher;
     }
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
-    private LocalDateTime lastCheckedTime;
-    private boolean isUpdated = false;
-
     //실제 판매중인 상품 대분류별 조회
     public List<ProductRespDto> findProductsByDepartment(String mainDepartment) {
 
@@ -90,15 +126,51 @@ public class ProductServiceImpl implements ProductService {
     // 상품 소분류 조회
     @Override
     @Transactional(readOnly = true)
-    public Slice<ProductResponseDto> selectCategoryValue(String subDepartment, Pageable pageable) {
-        return productRepository.subProductInfo(subDepartment, pageable);
+    public CursorSliceDto<ProductResponseDto> selectCategoryValue(String subDepartment, String cursor, int size) {
+        return productRepository.subProductInfo(subDepartment, cursor, size);
     }
 
-    // 상품의 상세정보 조회
+    // 상품 검색 - 메모리 역색인에서 찾고 즉시 구매가는 호가창 캐시에서 채움
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductResponseDto> searchProducts(String keyword, int limit) {
+        return productSearchIndex.search(keyword, limit).stream()
+                .map(document -> ProductResponseDto.builder()
+                        .productId(document.getProductId())
+                        .productImg(document.getProductImg())
+                        .productBrand(document.getProductBrand())
+                        .productName(document.getProductName())
+                        .modelNum(document.getModelNum())
+                        .biddingPrice(topOfBookCache.get(document.getModelNum()).getLowestBuyingPrice())
+                        .registerDate(document.getRegisterDate())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 검색어 자동완성 - 메모리 트라이에서 조회하므로 트랜잭션 없음
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AutocompleteDto> autocomplete(String prefix, int limit) {
+        return productAutocomplete.complete(prefix, limit).stream()
+                .map(suggestion -> AutocompleteDto.builder()
+                        .text(suggestion.getText())
+                        .type(suggestion.getType().name())
+                        .modelNum(suggestion.getModelNum())
+                        .tradeCount(suggestion.getTradeCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 상품의 상세정보 조회 - 입찰 / 체결 / 리뷰 변경 전까지는 캐시된 결과를 반환
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductDetailDto productDetailInfo(String modelNum) {
         log.info("modelNum : {}", modelNum);
+        return productDetailCache.get(modelNum, () -> loadProductDetail(modelNum));
+    }
+
+    // 항목별 조회를 동시에 실행하고 요청 단위 마감 시간 안에서 합침
+    private ProductDetailCache.Loaded loadProductDetail(String modelNum) {
 
         List<Product> products = productRepository.findAllByModelNumAndStatus(modelNum);
 
@@ -106,23 +178,38 @@ public class ProductServiceImpl implements ProductService {
             // 가장 먼저 나온 결과를 사용하거나, 추가 조건을 통해 단일 결과 선택
             Product product = products.get(0);
 
-            ProductDetailDto priceValue = productRepository.searchProductPrice(modelNum);
+            // 사이즈 상관없이 구매(최저), 판매(최고)가 - 호가창 캐시에서 조회
+            TopOfBook priceValue = topOfBookCache.get(modelNum);
 
-            List<ProductsContractListDto> contractInfoList = selectSalesContract(modelNum);
+            DetailQueryExecutor.Deadline deadline = detailQueryExecutor.deadline();
+            CompletableFuture<List<ProductsContractListDto>> contractInfo =
+                    detailQueryExecutor.submit(() -> selectSalesContract(modelNum));
+            CompletableFuture<List<PhotoReviewDto>> photoReview =
+                    detailQueryExecutor.submit(() -> selectPhotoReview(modelNum));
+            CompletableFuture<RecentlyPriceDto> recentlyPrice =
+                    detailQueryExecutor.submit(() -> selectRecentlyPrice(modelNum));
+            CompletableFuture<AveragePriceResponseDto> averagePrices =
+                    detailQueryExecutor.submit(() -> getAveragePrices(modelNum));
 
+            List<ProductsContractListDto> contractInfoList = deadline.await(contractInfo, "contractInfo");
+
+            // 입찰 희망 내역 / 사이즈별 가격은 호가창 캐시에서 바로 조회
             List<SalesHopeDto> salesHopeDtoList = selectSalesHope(modelNum);
 
             List<BuyingHopeDto> buyingHopeDtoList = selectBuyingHope(modelNum);
 
-            List<PhotoReviewDto> photoReviewDtoList = selectPhotoReview(modelNum);
+            List<GroupByBuyingDto> groupByBuyingDtoList = groupByBuyingSize(product);
 
-            List<GroupByBuyingDto> groupByBuyingDtoList = productRepository.groupByBuyingSize(modelNum);
+            List<GroupBySalesDto> groupBySalesDtoList = groupBySalesSize(product);
 
-            List<GroupBySalesDto> groupBySalesDtoList = productRepository.groupBySalesSize(modelNum);
+            RecentlyPriceDto recentlyContractPrice = deadline.await(recentlyPrice, "recentlyPrice");
 
-            RecentlyPriceDto recentlyContractPrice = selectRecentlyPrice(modelNum);
+            // 리뷰, 시세 차트는 늦으면 빈 값으로 응답
+            List<PhotoReviewDto> photoReviewDtoList =
+                    deadline.awaitOrDefault(photoReview, "photoReview", Collections::emptyList);
 
-            AveragePriceResponseDto averagePriceResponseDtoList = getAveragePrices(modelNum);
+            AveragePriceResponseDto averagePriceResponseDtoList =
+                    deadline.awaitOrDefault(averagePrices, "averagePrices", AveragePriceResponseDto::new);
 
             ProductDetailDto productDetailDto = ProductDetailDto.builder()
                     .productId(product.getProductId())
@@ -133,8 +220,8 @@ public class ProductServiceImpl implements ProductService {
                     .originalPrice(product.getOriginalPrice())
                     .productLike(product.getProductLike())
 
-                    .buyingBiddingPrice(priceValue.getBuyingBiddingPrice())
-                    .salesBiddingPrice(priceValue.getSalesBiddingPrice())
+                    .buyingBiddingPrice(TopOfBook.orZero(priceValue.getLowestBuyingPrice()))
+                    .salesBiddingPrice(TopOfBook.orZero(priceValue.getHighestSalesPrice()))
 
                     .latestPrice(recentlyContractPrice.getLatestPrice())
                     .previousPrice(recentlyContractPrice.getPreviousPrice())
@@ -155,108 +242,29 @@ public class ProductServiceImpl implements ProductService {
                     .build();
 
             log.info("상세상품 변환 완료 : {}", productDetailDto);
-            return productDetailDto;
+            // 일부 항목이 빠진 결과는 캐시에 남기지 않음
+            return ProductDetailCache.Loaded.of(productDetailDto, !deadline.isDegraded());
         }
         return null;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateDate(Long recentlyProductId) {
-        if (isUpdated) {
-            productRepository.findProductsByProductId(recentlyProductId)
-                    .ifPresent(product -> {
-                        product.updateLatestDate(LocalDateTime.now());
-                        productRepository.save(product);
-                        log.info("서버 종료 시점 저장 완료 : {}", LocalDateTime.now());
-                        productRepository.flush();
-                        entityManager.clear();
-                    });
-        }
-    }
-
-    // 최근 체결가 계산
+    // 최근 체결가 (체결 시점에 갱신된 시세를 그대로 조회)
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(readOnly = true)
     public RecentlyPriceDto selectRecentlyPrice(String modelNum) {
-        Optional<Product> oldContractValue = productRepository.findFirstByModelNumOrderByLatestDateDesc(modelNum);
-        lastCheckedTime = oldContractValue.map(Product::getLatestDate).orElse(LocalDateTime.now());
-        log.info("!!! 서버가 마지막까지 유지했던 시간 : {}", lastCheckedTime);
-
-        List<SalesBiddingDto> newAllContractSelect = productRepository.recentlyTransaction(modelNum);
-        log.info("최근 체결 내역 조회 : {} ", newAllContractSelect);
-        if (newAllContractSelect.isEmpty()) {
-            log.info("체결된 거래가 없습니다.");
-            return new RecentlyPriceDto();
-        }
-
-        SalesBiddingDto recentlyContractValue = newAllContractSelect.get(0);
-        LocalDateTime recentlyContractTime = recentlyContractValue.getSalesBiddingTime();
-        log.info("최근 체결 내역 시간 : {}", recentlyContractTime);
-
-
-        RecentlyPriceDto recentlyPriceDto = RecentlyPriceDto.builder()
-                .latestPrice(recentlyContractValue.getLatestPrice())
-                .salesBiddingTime(recentlyContractTime)
-                .salesBiddingPrice(recentlyContractValue.getSalesBiddingPrice())
-                .build();
-
-        if (lastCheckedTime.isBefore(recentlyContractTime)) {
-            for (SalesBiddingDto product : newAllContractSelect) {
-                if (product.getPreviousPrice() == null || product.getPreviousPercentage() == null) {
-                    productRepository.resetPreviousPrice(product.getProductId());
-                    log.info("기본값 설정 완료");
-                }
-            }
-            Long recentlyProductId = recentlyContractValue.getProductId();
-            BigDecimal recentlyContractPrice = recentlyContractValue.getLatestPrice();
-            BigDecimal previousContractPrice = oldContractValue.get().getLatestPrice();
-
-            log.info("업데이트 전 recentlyProductId : {}, recentlyContractPrice : {}", recentlyProductId, recentlyContractPrice);
-
-            if (previousContractPrice != null) {
-                productRepository.updatePreviousPrice(recentlyProductId, previousContractPrice);
-                log.info("Updated previousPrice for productId: {} with price: {}", recentlyProductId, previousContractPrice);
-            } else {
-                log.warn("previousContractPrice is null, skipping update for previousPrice");
-            }
-            productRepository.updateLatestPrice(recentlyProductId, recentlyContractPrice);
-            log.info("Updated latestPrice for productId: {}", recentlyProductId);
-            productRepository.flush();
-            entityManager.clear(); // 엔티티 매니저 캐시 비우기
-
-            BigDecimal result = recentlyContractPrice.subtract(previousContractPrice);
-            BigDecimal changePercentageBD = recentlyContractPrice.subtract(previousContractPrice)
-                    .divide(previousContractPrice, MathContext.DECIMAL128)
-                    .multiply(BigDecimal.valueOf(100));
-
-            Long resultAsLong = result.longValueExact();
-
-            double changePercentage = changePercentageBD.doubleValue();
-            DecimalFormat df = new DecimalFormat("#.#");
-            String format = df.format(changePercentage);
-            double finalChangePercentage = Double.parseDouble(format);
-            productRepository.updateRecentlyContractPercentage(recentlyProductId, finalChangePercentage);
-            productRepository.updateDifferenceContract(recentlyProductId, resultAsLong);
-            recentlyPriceDto.setDifferenceContract(resultAsLong);
-            recentlyPriceDto.setChangePercentage(finalChangePercentage);
-            recentlyPriceDto.setPreviousPrice(previousContractPrice);
-
-            lastCheckedTime = recentlyContractTime;
-            isUpdated = true;
-            log.info("최근 체결 내역 업데이트 완료");
-            updateDate(recentlyProductId);
-        } else {
-            log.info("현재 등록된 거래가 최신입니다.");
-            return RecentlyPriceDto.builder()
-                    .latestPrice(oldContractValue.get().getLatestPrice())
-                    .differenceContract(oldContractValue.get().getDifferenceContract())
-                    .previousPrice(oldContractValue.get().getPreviousPrice())
-                    .changePercentage(oldContractValue.get().getPreviousPercentage())
-                    .salesBiddingTime(oldContractValue.get().getLatestDate())
-                    .salesBiddingPrice(oldContractValue.get().getLatestPrice())
-                    .build();
-        }
-        return recentlyPriceDto;
+        return priceTicker.get(modelNum)
+                .map(tick -> RecentlyPriceDto.builder()
+                        .latestPrice(tick.getLatestPrice())
+                        .previousPrice(tick.getPreviousPrice())
+                        .differenceContract(tick.getDifferenceContract())
+                        .changePercentage(tick.getChangePercentage())
+                        .salesBiddingTime(tick.getTradeTime())
+                        .salesBiddingPrice(tick.getLatestPrice())
+                        .build())
+                .orElseGet(() -> {
+                    log.info("체결된 거래가 없습니다.");
+                    return new RecentlyPriceDto();
+                });
     }
 
     // 체결 내역 관리(리스트)
@@ -268,82 +276,73 @@ public class ProductServiceImpl implements ProductService {
         return temp.stream()
                 .map(contractValue -> ProductsContractListDto.builder()
                         .productSize(contractValue.getProductSize())
-                        .productContractPrice(contractValue.getLatestPrice())
+                        .productContractPrice(contractValue.getSalesBiddingPrice())
                         .productContractDate(contractValue.getSalesBiddingTime())
                         .build())
                 .collect(Collectors.toList());
     }
 
-    // 입찰 판매 희망 내역(리스트)
+    // 입찰 판매 희망 내역(리스트) - 사이즈별로 낮은 가격부터 상위 가격대만
     @Override
     public List<SalesHopeDto> selectSalesHope(String modelNum) {
-        List<SalesHopeDto> temp = productRepository.salesHopeInfo(modelNum);
-
-        // LinkedHashMap 사용하여 순서 보장
-        Map<String, SalesHopeDto> groupedResults = new LinkedHashMap<>();
-
-        for (SalesHopeDto hope : temp) {
-            // 동일한 사이즈와 가격을 기준으로 키 생성
-            String key = hope.getProductSize() + "-" + hope.getSalesBiddingPrice();
-
-            // 이미 존재하는 항목이면 수량 증가, 아니면 새로 추가
-            if (groupedResults.containsKey(key)) {
-                SalesHopeDto existing = groupedResults.get(key);
-                existing.setSalesQuantity(existing.getSalesQuantity() + hope.getSalesQuantity());
-            } else {
-                groupedResults.put(key, hope);
+        List<SalesHopeDto> resultList = new ArrayList<>();
+        depthLadderCache.getSizes(modelNum).forEach((productSize, ladder) -> {
+            for (DepthLadder.DepthLevel level : ladder.top(BookSide.SALES, depthLevels)) {
+                resultList.add(SalesHopeDto.builder()
+                        .productSize(productSize)
+                        .salesBiddingPrice(level.getPrice())
+                        .salesQuantity(level.getQuantity())
+                        .build());
             }
-        }
-        // 결과를 다시 리스트로 변환
-        List<SalesHopeDto> resultList = new ArrayList<>(groupedResults.values());
-
-        log.info("값 리스트로 변환 확인 : {}, ", resultList);
+        });
         return resultList;
     }
 
-    // 입찰 구매 희망 내역(리스트)
+    // 입찰 구매 희망 내역(리스트) - 사이즈별로 높은 가격부터 상위 가격대만
     @Override
     public List<BuyingHopeDto> selectBuyingHope(String modelNum) {
-        List<BuyingHopeDto> temp = productRepository.buyingHopeInfo(modelNum);
-
-        log.info("구매 입찰 내역 확인 : {} ", temp);
-        Map<String, BuyingHopeDto> groupedResults = new LinkedHashMap<>();
-
-        Optional<BuyingHopeDto> lowestPrice = temp.stream()
-                .min(Comparator.comparing(BuyingHopeDto::getBuyingBiddingPrice));
-
-        if (lowestPrice.isPresent()) {
-            BuyingHopeDto lowest = lowestPrice.get();
-            log.info("최저가 항목 : {}", lowest);
-        }
-
-        for (BuyingHopeDto hope : temp) {
-            // 동일한 사이즈와 가격을 기준으로 키 생성
-            String key = hope.getProductSize() + "-" + hope.getBuyingBiddingPrice();
-
-            // 이미 존재하는 항목이면 수량 증가, 아니면 새로 추가
-            groupedResults.merge(key, hope, (existing, newHope) -> {
-                existing.setBuyingQuantity(existing.getBuyingQuantity() + newHope.getBuyingQuantity());
-                return existing;
-            });
-        }
-        // 결과를 다시 리스트로 변환
-        List<BuyingHopeDto> resultList = new ArrayList<>(groupedResults.values());
-
-        log.info("리스트로 변환 : {}, ", resultList);
-
+        List<BuyingHopeDto> resultList = new ArrayList<>();
+        depthLadderCache.getSizes(modelNum).forEach((productSize, ladder) -> {
+            for (DepthLadder.DepthLevel level : ladder.top(BookSide.BUYING, depthLevels)) {
+                resultList.add(BuyingHopeDto.builder()
+                        .productSize(productSize)
+                        .buyingBiddingPrice(level.getPrice())
+                        .buyingQuantity(level.getQuantity())
+                        .build());
+            }
+        });
+        return resultList;
+    }
 
-        return resultList.stream()
-                .map(this::convertBuyingDto)
+    // 사이즈별 구매 입찰 최저가 (낮은 가격순)
+    private List<GroupByBuyingDto> groupByBuyingSize(Product product) {
+        return topOfBookCache.getSizes(product.getModelNum()).entrySet().stream()
+                .filter(size -> size.getValue().getLowestBuyingPrice() != null)
+                .sorted(Comparator.comparing(size -> size.getValue().getLowestBuyingPrice()))
+                .map(size -> GroupByBuyingDto.builder()
+                        .productImg(product.getProductImg())
+                        .productName(product.getProductName())
+                        .modelNum(product.getModelNum())
+                        .productSize(size.getKey())
+                        .buyingBiddingPrice(size.getValue().getLowestBuyingPrice())
+                        .build())
                 .collect(Collectors.toList());
     }
 
-    private BuyingHopeDto convertBuyingDto(BuyingHopeDto hope) {
-        return BuyingHopeDto.builder()
-                .productSize(hope.getProductSize())
-                .buyingQuantity(hope.getBuyingQuantity())
-                .buyingBiddingPrice(hope.getBuyingBiddingPrice())
-                .build();
+    // 사이즈별 판매 입찰 최고가 (높은 가격순)
+    private List<GroupBySalesDto> groupBySalesSize(Product product) {
+        return topOfBookCache.getSizes(product.getModelNum()).entrySet().stream()
+                .filter(size -> size.getValue().getHighestSalesPrice() != null)
+                .sorted(Comparator.comparing((Map.Entry<String, TopOfBook> size) -> size.getValue().getHighestSalesPrice())
+                        .reversed())
+                .map(size -> GroupBySalesDto.builder()
+                        .productImg(product.getProductImg())
+                        .productName(product.getProductName())
+                        .modelNum(product.getModelNum())
+                        .productSize(size.getKey())
+                        .productMaxPrice(size.getValue().getHighestSalesPrice())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -363,6 +362,7 @@ public class ProductServiceImpl implements ProductService {
                 .build();
 
         photoReviewRepository.save(photoReview);
+        eventPublisher.publishEvent(new PhotoReviewChangedEvent(product.getModelNum()));
         log.info("성공!!");
     }
 
@@ -380,6 +380,9 @@ public class ProductServiceImpl implements ProductService {
         if (!review.getUser().getUserId().equals(photoRequestDto.getUserId())) {
             throw new IllegalArgumentException("해당 리뷰를 수정할 권한이 없습니다.");
         }
+        // 수정 전 상품 (save 시 기존 엔티티에 병합되므로 미리 보관)
+        String previousModelNum = review.getProducts().getModelNum();
+
         // 리뷰 수정
         PhotoReview photoReview = PhotoReview.builder()
                 .products(product)
@@ -391,6 +394,10 @@ public class ProductServiceImpl implements ProductService {
                 .build();
 
         photoReviewRepository.save(photoReview);
+        eventPublisher.publishEvent(new PhotoReviewChangedEvent(previousModelNum));
+        if (!previousModelNum.equals(product.getModelNum())) {
+            eventPublisher.publishEvent(new PhotoReviewChangedEvent(product.getModelNum()));
+        }
         log.info("리뷰가 성공적으로 수정되었습니다.");
     }
 
@@ -402,6 +409,7 @@ public class ProductServiceImpl implements ProductService {
             throw new IllegalArgumentException("해당 리뷰를 삭제할 권한이 없습니다.");
         }
         photoReviewRepository.delete(photoReview);
+        eventPublisher.publishEvent(new PhotoReviewChangedEvent(photoReview.getProducts().getModelNum()));
     }
 
     // 해당 상품에 대한 스타일 리뷰 조회(리스트)
@@ -436,108 +444,80 @@ public class ProductServiceImpl implements ProductService {
                 throw new IllegalArgumentException("해당 상품의 모델번호나 사이즈가 일치하지 않습니다.");
 
             }
-            // 해당 상품의 사이즈에 대한 가격 뽑기, 구매 / 판매 둘다
-            BuyingBidResponseDto buyingBidResponseDto = productRepository.BuyingBidResponse(buyingBidRequestDto);
-            if (buyingBidResponseDto == null) {
-                log.info("해당 상품의 가격이 존재하지 않습니다.");
-                throw new IllegalArgumentException("해당 상품의 가격이 존재하지 않습니다.");
-            }
-            log.info("해당 사이즈에 대한 가격 뽑기 : {}", buyingBidResponseDto);
+            // 해당 상품의 사이즈에 대한 가격 뽑기, 구매 / 판매 둘다 - 호가창 캐시에서 조회
+            TopOfBook priceValue = topOfBookCache.get(buyingBidRequestDto.getModelNum(), buyingBidRequestDto.getProductSize());
+            log.info("해당 사이즈에 대한 가격 뽑기 : {}", priceValue);
 
 
             return BuyingBidResponseDto.builder()
                     .productImg(products.get().getProductImg())
                     .productName(products.get().getProductName())
                     .productSize(products.get().getProductSize())
-                    .productBuyPrice(buyingBidResponseDto.getProductBuyPrice())
-                    .productSalePrice(buyingBidResponseDto.getProductSalePrice())
+                    .productBuyPrice(TopOfBook.orZero(priceValue.getLowestBuyingPrice()))
+                    .productSalePrice(TopOfBook.orZero(priceValue.getHighestSalesPrice()))
                     .build();
         }
         return null;
     }
 
+    // 입찰 등록 / 체결은 해당 모델번호 샤드 스레드의 트랜잭션에서 처리
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveTemporaryBid(BidRequestDto bidRequestDto) {
+        matchingShards.run(bidRequestDto.getModelNum(), () -> saveBid(bidRequestDto));
+    }
+
+    private void saveBid(BidRequestDto bidRequestDto) {
         Users user = userRepository.findById(bidRequestDto.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자 ID 입니다."));
         Product product = productRepository.findBidProductInfo(bidRequestDto.getModelNum(), bidRequestDto.getSize())
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 상품 ID 입니다."));
 
+        // 저장 후 호가창에 올려 반대편 입찰과 가격이 맞으면 바로 체결
         if (bidRequestDto.getType().equals("buy")) {
-            BuyingBidding buyingBidding = bidRequestDto.toBuyingBidding(user, product);
-            buyingBiddingRepository.save(buyingBidding);
+            BuyingBidding buyingBidding = buyingBiddingRepository.save(bidRequestDto.toBuyingBidding(user, product));
+            biddingMatchService.placeBuying(buyingBidding);
         } else if (bidRequestDto.getType().equals("sale")) {
-            SalesBidding salesBidding = bidRequestDto.toSalesBidding(user, product);
-            salesBiddingRepository.save(salesBidding);
+            SalesBidding salesBidding = salesBiddingRepository.save(bidRequestDto.toSalesBidding(user, product));
+            biddingMatchService.placeSales(salesBidding);
         }
     }
 
+    // 시세 차트 - 체결 시 누적해 둔 시간 / 일 캔들로 구간 평균가 계산
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public AveragePriceResponseDto getAveragePrices(String modelNum) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime temp = LocalDateTime.of(2023, 1, 1, 0, 0, 0);
-        List<SalesBidding> salesBiddingList = salesBiddingRepository.findFirstByOriginalContractDate(modelNum);
-        LocalDateTime firstContractTime = salesBiddingList.get(0).getSalesBiddingTime();
-
-        log.info("firstContractTime: {}", firstContractTime);
-        List<AveragePriceDto> allContractData = productRepository.getAllContractData(modelNum, temp, now);
-
-        if (allContractData.isEmpty()) {
-            throw new RuntimeException("No contract data available for model: " + modelNum);
-        }
-
-        List<AveragePriceDto> threeDayPrices = calculateAveragePrice(allContractData, now.minusDays(3), now, 3);
-        List<AveragePriceDto> oneMonthPrices = calculateAveragePrice(allContractData, now.minusMonths(1), now, 24);
-        List<AveragePriceDto> sixMonthPrices = calculateAveragePrice(allContractData, now.minusMonths(6), now, 168);
-        List<AveragePriceDto> oneYearPrices = calculateAveragePrice(allContractData, now.minusYears(1), now, 720);
-        List<AveragePriceDto> totalExecutionPrice = calculateAveragePrice(allContractData, firstContractTime, now, 720);
+        Optional<LocalDateTime> firstCandleTime = priceCandleRepository
+                .findFirstByModelNumAndCandleIntervalOrderByBucketStartAsc(modelNum, CandleInterval.DAY)
+                .map(PriceCandle::getBucketStart);
+
+        // 체결 내역이 없는 상품은 모든 기간을 0 으로 채워 응답 (예외 대신 정상 값이라 캐시됨)
+        LocalDateTime firstContractTime = firstCandleTime.orElse(CandleInterval.DAY.truncate(now));
+        LocalDateTime threeDayStart = CandleInterval.HOUR.truncate(now.minusDays(3));
+        List<CandleSumDto> hourlyCandles = firstCandleTime.isPresent()
+                ? priceCandleRepository.sumByBucket(modelNum, CandleInterval.HOUR, threeDayStart)
+                : Collections.emptyList();
+        List<CandleSumDto> dailyCandles = firstCandleTime.isPresent()
+                ? priceCandleRepository.sumByBucket(modelNum, CandleInterval.DAY, firstContractTime)
+                : Collections.emptyList();
+
+        // 시간 캔들 1회, 일 캔들 1회 순회로 5개 기간 모두 계산
+        PriceSeries.Window threeDay = PriceSeries.Window.of(threeDayStart, now, 3);
+        PriceSeries.Window oneMonth = PriceSeries.Window.of(CandleInterval.DAY.truncate(now.minusMonths(1)), now, 24);
+        PriceSeries.Window sixMonth = PriceSeries.Window.of(CandleInterval.DAY.truncate(now.minusMonths(6)), now, 168);
+        PriceSeries.Window oneYear = PriceSeries.Window.of(CandleInterval.DAY.truncate(now.minusYears(1)), now, 720);
+        PriceSeries.Window total = PriceSeries.Window.of(firstContractTime, now, 720);
+
+        long[][] hourlyAverages = PriceSeries.of(hourlyCandles).averages(threeDay);
+        long[][] dailyAverages = PriceSeries.of(dailyCandles).averages(oneMonth, sixMonth, oneYear, total);
 
         return AveragePriceResponseDto.builder()
-                .threeDayPrices(threeDayPrices)
-                .oneMonthPrices(oneMonthPrices)
-                .sixMonthPrices(sixMonthPrices)
-                .oneYearPrices(oneYearPrices)
-                .totalExecutionPrice(totalExecutionPrice)
+                .threeDayPrices(threeDay.toPrices(hourlyAverages[0]))
+                .oneMonthPrices(oneMonth.toPrices(dailyAverages[0]))
+                .sixMonthPrices(sixMonth.toPrices(dailyAverages[1]))
+                .oneYearPrices(oneYear.toPrices(dailyAverages[2]))
+                .totalExecutionPrice(total.toPrices(dailyAverages[3]))
                 .build();
     }
-
-    @Override
-    @Transactional
-    public List<AveragePriceDto> calculateAveragePrice(List<AveragePriceDto> allContractData, LocalDateTime firstContractDateTime, LocalDateTime endDate, int intervalHours) {
-        List<AveragePriceDto> result = new ArrayList<>();
-        DecimalFormat df = new DecimalFormat("#");
-
-        while (firstContractDateTime.isBefore(endDate)) {
-            LocalDateTime nextInterval = firstContractDateTime.plusHours(intervalHours);
-
-            List<AveragePriceDto> intervalData = getAllContractData(allContractData, firstContractDateTime, nextInterval);
-
-            if (intervalData.isEmpty()) {
-                result.add(new AveragePriceDto(firstContractDateTime, BigDecimal.ZERO)); // 체결 내역이 없으면 0
-            } else {
-                BigDecimal sum = BigDecimal.ZERO;
-                for (AveragePriceDto data : intervalData) {
-                    if (data.getAveragePrice() != null) {
-                        sum = sum.add(data.getAveragePrice());
-                    }
-                }
-                BigDecimal average = sum.divide(BigDecimal.valueOf(intervalData.size()), MathContext.DECIMAL128);
-
-                BigDecimal formattedAverage = new BigDecimal(df.format(average));
-                result.add(new AveragePriceDto(firstContractDateTime, formattedAverage));
-            }
-
-            firstContractDateTime = nextInterval;
-        }
-        log.info("result : {}", result.toString());
-
-        return result;
-    }
-
-    public List<AveragePriceDto> getAllContractData(List<AveragePriceDto> allContractData, LocalDateTime startDate, LocalDateTime endDate) {
-        return allContractData.stream()
-                .filter(data -> data.getContractDateTime().isAfter(startDate) && data.getContractDateTime().isBefore(endDate))
-                .collect(Collectors.toList());
-    }
 }
@@ -6,9 +6,13 @@ import com.example.backend.dto.mypage.saleHistory.SalesStatusCountDto;
 import com.example.backend.entity.SalesBidding;
 import com.example.backend.entity.enumData.SalesStatus;
 import com.example.backend.repository.Bidding.SalesBiddingRepository;
+import com.example.backend.service.matching.BiddingMatchService;
+import com.example.backend.service.matching.BookSide;
+import com.example.backend.service.matching.MatchingShards;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -18,6 +22,8 @@ import java.util.List;
 public class SalesBiddingService {
 
     private final SalesBiddingRepository salesBiddingRepository;
+    private final BiddingMatchService biddingMatchService;
+    private final MatchingShards matchingShards;
 
     /**
      * 판매 내역
@@ -49,12 +55,20 @@ public class SalesBiddingService {
                 .build();
     }
 
-    @Transactional
+    // 체결과 취소가 엇갈리지 않도록 해당 모델번호 샤드에서 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cancelSalesBidding(Long userId, Long salesBiddingId) {
+        String modelNum = salesBiddingRepository.findModelNumById(salesBiddingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 판매 입찰 내역입니다."));
+        matchingShards.run(modelNum, () -> cancel(userId, salesBiddingId));
+    }
+
+    private void cancel(Long userId, Long salesBiddingId) {
         SalesBidding salesBidding = salesBiddingRepository.findBySalesBiddingIdAndUserUserId(salesBiddingId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 판매 입찰 내역입니다."));
 
         salesBidding.changeSalesStatus(SalesStatus.CANCEL);
         salesBiddingRepository.save(salesBidding);
+        biddingMatchService.cancel(BookSide.SALES, salesBiddingId);
     }
 }
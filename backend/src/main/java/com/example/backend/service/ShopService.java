@@ -1,14 +1,21 @@
 package com.example.backend.service;
 
 import com.example.backend.dto.product.AllProductDto;
+import com.example.backend.dto.product.CursorSliceDto;
+import com.example.backend.dto.product.ShopFilterResponseDto;
 import com.example.backend.repository.Product.ProductRepository;
+import com.example.backend.service.Product.ProductFacetIndex;
+import com.example.backend.service.matching.TopOfBookCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -16,13 +23,53 @@ import java.util.List;
 public class ShopService {
 
     private final ProductRepository productRepository;
+    private final ProductFacetIndex productFacetIndex;
+    private final TopOfBookCache topOfBookCache;
 
-    public Slice<AllProductDto> getTotalProduct(Pageable pageable){
+    public CursorSliceDto<AllProductDto> getTotalProduct(String cursor, int size){
 
-        return productRepository.allProduct(pageable);
+        return productRepository.allProduct(cursor, size);
     }
 
-    public Slice<AllProductDto> getFilter(Pageable pageable, List<String> subDepartment){
-        return productRepository.filterProduct(pageable, subDepartment);
+    // 필터 조건(필터 이름 -> 선택 값들)으로 조회 - 메모리 비트맵 색인에서 목록과 필터별 개수를 함께 계산
+    public ShopFilterResponseDto getFilter(String cursor, int size, Map<String, Set<String>> filters){
+        ProductFacetIndex.Result result = productFacetIndex.query(filters, decodeCursor(cursor), size);
+
+        List<AllProductDto> products = result.getDocuments().stream()
+                .map(document -> AllProductDto.builder()
+                        .modelNum(document.getModelNum())
+                        .productId(document.getProductId())
+                        .productBrand(document.getProductBrand())
+                        .productName(document.getProductName())
+                        .subDepartment(document.getSubDepartment())
+                        .productImg(document.getProductImg())
+                        .buyingBiddingPrice(topOfBookCache.get(document.getModelNum()).getLowestBuyingPrice())
+                        .build())
+                .collect(Collectors.toList());
+
+        String nextCursor = result.isHasNext() && !products.isEmpty()
+                ? encodeCursor(products.get(products.size() - 1).getModelNum())
+                : null;
+
+        return ShopFilterResponseDto.builder()
+                .products(new CursorSliceDto<>(products, nextCursor, result.isHasNext()))
+                .facetCounts(result.getFacetCounts())
+                .build();
+    }
+
+    // 필터 목록 커서 - 마지막 모델번호
+    private String encodeCursor(String modelNum) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(modelNum.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
 }
@@ -2,12 +2,14 @@ package com.example.backend.service.coupon;
 
 import com.example.backend.dto.coupon.CouponDto;
 import com.example.backend.dto.coupon.CouponIssueDto;
+import com.example.backend.dto.coupon.CouponIssueEvent;
 import com.example.backend.dto.coupon.UserCouponDto;
 import com.example.backend.entity.Coupon;
 import com.example.backend.entity.CouponIssue;
 import com.example.backend.entity.Users;
-import com.example.backend.entity.enumData.CouponCondition;
+import com.example.backend.entity.enumData.CouponIssueStatus;
 import com.example.backend.producer.CouponCreateProducer;
+import com.example.backend.repository.CouponIssue.CouponIssueJdbcRepository;
 import com.example.backend.repository.CouponIssue.CouponIssueRepository;
 import com.example.backend.repository.CouponIssue.RedisRepository;
 import com.example.backend.repository.User.UserRepository;
@@ -15,12 +17,19 @@ import com.example.backend.repository.coupon.CouponRepository;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +40,10 @@ public class CouponIssueService {
     private final CouponRepository couponRepository;
     private final CouponCreateProducer couponCreateProducer;
     private final RedisRepository redisRepository;
+    private final CouponPolicyCache couponPolicyCache;
+    private final CouponIssueJdbcRepository couponIssueJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CouponWallet couponWallet;
 
 
     @Transactional
@@ -53,43 +66,126 @@ public class CouponIssueService {
     }
 
 
-    public void issueCoupon(Long couponId, Long userId) {
+    /* Kafka 배치 단위 발급 쿠폰 저장
+     * 회원 / 쿠폰을 한 번에 확인하고, 한 트랜잭션 안에서 JDBC batch 로 저장한다.
+     * 제약 조건 위반으로 batch 가 실패하면 savepoint 로 되돌린 뒤 한 건씩 다시 저장해서 위반한 요청만 제외한다.
+     * DB 연결 실패 등 다른 오류는 그대로 던져서 offset 을 커밋하지 않고 같은 poll 을 다시 처리하게 한다.
+     * 이미 저장된 reservationId(재전달 메시지)는 ON DUPLICATE KEY UPDATE 로 건너뛴다.
+     * 반환값은 저장하지 못한 요청
+     * */
+    public List<CouponIssueEvent> couponIssueBatch(List<CouponIssueEvent> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Long> couponIds = requests.stream().map(CouponIssueEvent::getCouponId).collect(Collectors.toSet());
+        Set<Long> userIds = requests.stream().map(CouponIssueEvent::getUserId).collect(Collectors.toSet());
+        Map<Long, Coupon> coupons = couponRepository.findAllById(couponIds).stream()
+            .collect(Collectors.toMap(Coupon::getCouponId, Function.identity()));
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingUserIds(userIds));
+
+        List<CouponIssueEvent> failed = new ArrayList<>();
+        List<CouponIssueEvent> accepted = new ArrayList<>(requests.size());
+        List<CouponIssueJdbcRepository.IssueRow> rows = new ArrayList<>(requests.size());
+        for (CouponIssueEvent request : requests) {
+            Coupon coupon = coupons.get(request.getCouponId());
+            if (coupon == null || !existingUserIds.contains(request.getUserId())) {
+                log.warn("발급 쿠폰 저장 제외 - 회원 또는 쿠폰 없음 : {}", request);
+                failed.add(request);
+                continue;
+            }
+            accepted.add(request);
+            rows.add(new CouponIssueJdbcRepository.IssueRow(request.getUserId(), request.getCouponId(),
+                now.plusDays(coupon.getExpDay()), request.getReservationId()));
+        }
+        if (rows.isEmpty()) {
+            return failed;
+        }
 
-        // 해당 쿠폰 정책 발급수 INCR
-        Long issuedCount = redisRepository.couponIssuedCount(couponId);
-        Long MAX_QUANTITY = Long.valueOf(
-            redisRepository.getCouponCondition(couponId, CouponCondition.MAX_QUANTITY.name()));
+        int[] inserted = new int[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            Object savepoint = status.createSavepoint();
+            try {
+                inserted[0] = couponIssueJdbcRepository.insertAll(rows, now);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("발급 쿠폰 일괄 저장 실패 - 한 건씩 다시 저장 : {}건", rows.size(), e);
+                status.rollbackToSavepoint(savepoint);
+                inserted[0] = 0;
+                for (int i = 0; i < rows.size(); i++) {
+                    Object rowSavepoint = status.createSavepoint();
+                    try {
+                        inserted[0] += couponIssueJdbcRepository.insert(rows.get(i), now);
+                        status.releaseSavepoint(rowSavepoint);
+                    } catch (DataIntegrityViolationException rowException) {
+                        status.rollbackToSavepoint(rowSavepoint);
+                        log.warn("발급 쿠폰 저장 실패 : {}", accepted.get(i), rowException);
+                        failed.add(accepted.get(i));
+                    }
+                }
+            }
+        });
+        // 새로 발급된 회원의 쿠폰 지갑 무효화 (커밋 후)
+        Set<Long> issuedUserIds = accepted.stream()
+            .filter(request -> !failed.contains(request))
+            .map(CouponIssueEvent::getUserId)
+            .collect(Collectors.toSet());
+        couponWallet.invalidateAll(issuedUserIds);
+        log.info("발급 쿠폰 일괄 저장 - 요청 : {}건, 저장 : {}건, 중복 : {}건, 실패 : {}건", requests.size(), inserted[0],
+            requests.size() - inserted[0] - failed.size(), failed.size());
+        return failed;
+    }
 
-        if (issuedCount != null && issuedCount > MAX_QUANTITY) { //
-            redisRepository.issuedCancel(couponId);
-            System.out.println("쿠폰 발급 수 초과");
-            return;
+    /* 저장할 수 없는 발급 요청(회원 / 쿠폰 없음, 제약 조건 위반)을 Redis 발급 정보에서 제외
+     * 발급 회원 Set 에 남겨 두면 정합성 점검이 저장 누락으로 보고 같은 메시지를 계속 다시 보내므로
+     * Set 에서 빼고 발급 수를 줄인 뒤, 소진 표시가 풀리도록 정책 캐시를 무효화한다.
+     * */
+    public void releaseFailed(List<CouponIssueEvent> failed) {
+        Set<Long> releasedCouponIds = new HashSet<>();
+        for (CouponIssueEvent request : failed) {
+            if (redisRepository.releaseCouponUser(request.getCouponId(), request.getUserId())) {
+                releasedCouponIds.add(request.getCouponId());
+                log.warn("저장할 수 없는 쿠폰 발급 취소 - couponId : {}, userId : {}", request.getCouponId(), request.getUserId());
+            }
         }
+        releasedCouponIds.forEach(couponPolicyCache::invalidate);
+    }
 
+    public void issueCoupon(Long couponId, Long userId) {
 
-        String startDate = redisRepository.getCouponCondition(couponId, CouponCondition.START_DATE.name());
-        String endDate = redisRepository.getCouponCondition(couponId, CouponCondition.END_DATE.name());
-        LocalDateTime startDateTime = LocalDateTime.parse(startDate);
-        LocalDateTime endDateTime = LocalDateTime.parse(endDate);
-
-        LocalDateTime currentDateTime = LocalDateTime.now();
+        long now = System.currentTimeMillis();
 
-        System.out.println("startDateTime = " + startDateTime);
-        System.out.println("endDateTime = " + endDateTime);
-        System.out.println("currentDateTime = " + currentDateTime);
+        // 로컬 정책 캐시로 발급 기간 밖 / 이미 소진된 쿠폰은 Redis 조회 없이 거절
+        CouponPolicyCache.CouponPolicy policy = couponPolicyCache.get(couponId);
+        if (policy == null) {
+            throw new IllegalArgumentException(CouponIssueStatus.NOT_FOUND.getMessage());
+        }
+        CouponIssueStatus rejected = policy.precheck(now);
+        if (rejected != null) {
+            throw new IllegalStateException(rejected.getMessage());
+        }
 
-        if (currentDateTime.isBefore(startDateTime) || currentDateTime.isAfter(endDateTime)) {
-            System.out.println("쿠폰 발급 시간이 아닙니다.");
-            return;
+        // 발급 기간, 발급 수량, 중복 발급 확인과 발급 처리를 Redis 스크립트 한 번으로 실행
+        RedisRepository.CouponIssueResult result = redisRepository.tryIssueCoupon(couponId, userId, now);
+        CouponIssueStatus status = result.getStatus();
+        if (status == CouponIssueStatus.SOLD_OUT) {
+            couponPolicyCache.markSoldOut(couponId);
         }
 
-        Long apply = redisRepository.registerCouponUser(couponId, userId);
-        if (apply != 1) {
-            System.out.println("이미 발급 받음");
-            redisRepository.issuedCancel(couponId);
-            return;
+        switch (status) {
+            case ISSUED -> couponCreateProducer.create(CouponIssueEvent.builder()
+                .couponId(couponId)
+                .userId(userId)
+                // 정합성 점검에서 다시 보내도 같은 행이 되도록 (쿠폰, 회원)으로 정해지는 예약 id 사용
+                .reservationId(CouponIssueEvent.reservationIdOf(couponId, userId))
+                .issuedAt(now)
+                .build());
+            case NOT_FOUND -> throw new IllegalArgumentException(status.getMessage());
+            default -> {
+                log.info("쿠폰 발급 실패 - couponId : {}, userId : {}, 사유 : {}", couponId, userId, status);
+                throw new IllegalStateException(status.getMessage());
+            }
         }
-        couponCreateProducer.create(couponId, userId);
     }
 //    public List<CouponIssueDto> userCoupons(Long userId) {
 //        List<CouponIssue> coupon = couponIssueRepository.findUnusedCouponsByUserId(userId);
@@ -0,0 +1,150 @@
+package com.example.backend.service.coupon;
+
+import com.example.backend.entity.Coupon;
+import com.example.backend.entity.enumData.CouponCondition;
+import com.example.backend.entity.enumData.CouponIssueStatus;
+import com.example.backend.repository.CouponIssue.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/* 쿠폰 발급 정책(발급 기간, 최대 발급 수량) 로컬 캐시
+ * 쿠폰 생성 시 채우고, 없으면 Redis 발급 조건 Hash 를 한 번 읽어 파싱해 둔다.
+ * 발급 기간 밖이거나 이 서버에서 이미 소진을 확인한 쿠폰은 Redis 를 거치지 않고 바로 거절한다.
+ * 쿠폰 정책이 바뀌면 invalidate 로 Redis 채널에 발행해 모든 서버의 캐시를 지운다.
+ * */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class CouponPolicyCache implements MessageListener {
+
+    private static final ChannelTopic INVALIDATE_TOPIC = new ChannelTopic("coupon:policy:invalidate");
+
+    private final RedisRepository redisRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<Long, CouponPolicy> policies = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, INVALIDATE_TOPIC);
+    }
+
+    // 쿠폰 생성 시 DB 에 저장된 값으로 바로 채움
+    public void put(Coupon coupon) {
+        policies.put(coupon.getCouponId(), new CouponPolicy(coupon.getCouponId(), coupon.getMaxQuantity(),
+            toEpochMillis(coupon.getStartDate()), toEpochMillis(coupon.getEndDate())));
+    }
+
+    // 없으면 Redis 발급 조건으로 만듦 (발급 조건이 없으면 null)
+    public CouponPolicy get(Long couponId) {
+        CouponPolicy policy = policies.get(couponId);
+        if (policy != null) {
+            return policy;
+        }
+        policy = load(couponId);
+        if (policy != null) {
+            policies.putIfAbsent(couponId, policy);
+        }
+        return policy;
+    }
+
+    // 발급 스크립트가 소진을 알려준 쿠폰은 무효화 전까지 이 서버에서 바로 거절
+    public void markSoldOut(Long couponId) {
+        CouponPolicy policy = policies.get(couponId);
+        if (policy != null) {
+            policy.soldOut = true;
+        }
+    }
+
+    // 모든 서버의 캐시에서 제거 (이 서버는 발행 결과와 관계없이 바로 제거)
+    public void invalidate(Long couponId) {
+        policies.remove(couponId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_TOPIC.getTopic(), String.valueOf(couponId));
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 정책 무효화 발행 실패 : {}", couponId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        // 기본 RedisTemplate 직렬화로 따옴표가 붙어 올 수 있음
+        String couponId = body.replace("\"", "").trim();
+        try {
+            policies.remove(Long.valueOf(couponId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 정책 무효화 메시지 : {}", body);
+        }
+    }
+
+    private CouponPolicy load(Long couponId) {
+        Map<String, String> conditions = redisRepository.getAllCouponConditions(couponId);
+        String maxQuantity = conditions.get(CouponCondition.MAX_QUANTITY.name());
+        if (maxQuantity == null) {
+            return null;
+        }
+
+        String startTimestamp = conditions.get(CouponCondition.START_TIMESTAMP.name());
+        String endTimestamp = conditions.get(CouponCondition.END_TIMESTAMP.name());
+        long startAt;
+        long endAt;
+        if (startTimestamp != null && endTimestamp != null) {
+            startAt = Long.parseLong(startTimestamp);
+            endAt = Long.parseLong(endTimestamp);
+        } else {
+            // 발급 기간 timestamp 가 없는 이전 쿠폰은 날짜 문자열로 계산해서 발급 스크립트용으로 채워 둠
+            startAt = toEpochMillis(LocalDateTime.parse(conditions.get(CouponCondition.START_DATE.name())));
+            endAt = toEpochMillis(LocalDateTime.parse(conditions.get(CouponCondition.END_DATE.name())));
+            redisRepository.saveCouponCondition(String.valueOf(couponId), CouponCondition.START_TIMESTAMP, String.valueOf(startAt));
+            redisRepository.saveCouponCondition(String.valueOf(couponId), CouponCondition.END_TIMESTAMP, String.valueOf(endAt));
+        }
+        return new CouponPolicy(couponId, Long.parseLong(maxQuantity), startAt, endAt);
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Getter
+    public static class CouponPolicy {
+
+        private final Long couponId;
+        private final long maxQuantity;
+        private final long startAt;
+        private final long endAt;
+        private volatile boolean soldOut;
+
+        private CouponPolicy(Long couponId, long maxQuantity, long startAt, long endAt) {
+            this.couponId = couponId;
+            this.maxQuantity = maxQuantity;
+            this.startAt = startAt;
+            this.endAt = endAt;
+        }
+
+        // 로컬에서 판단할 수 있는 거절 사유 (없으면 null - Redis 발급 스크립트로 확인)
+        public CouponIssueStatus precheck(long nowMillis) {
+            if (nowMillis < startAt) {
+                return CouponIssueStatus.NOT_STARTED;
+            }
+            if (nowMillis > endAt) {
+                return CouponIssueStatus.ENDED;
+            }
+            return soldOut ? CouponIssueStatus.SOLD_OUT : null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.backend.service.coupon;
+
+import com.example.backend.dto.coupon.CouponIssueEvent;
+import com.example.backend.entity.Coupon;
+import com.example.backend.producer.CouponCreateProducer;
+import com.example.backend.repository.CouponIssue.CouponIssueRepository;
+import com.example.backend.repository.CouponIssue.RedisRepository;
+import com.example.backend.repository.coupon.CouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/* Redis 발급 정보(발급 수, 발급 회원 Set)와 MySQL 발급 쿠폰(coupon_issue) 정합성 점검
+ * 발급 회원 Set 을 SSCAN 으로 나눠 읽고, 조각마다 IN 쿼리로 저장 여부를 확인한다.
+ * Redis 에만 있는 회원은 Kafka 로 처리 중일 수 있으므로 다음 점검에서도 없을 때만 발급 메시지를 다시 보낸다.
+ * 발급 수가 발급 회원 수와 다르면 발급 회원 수로 맞춘다. DB 에만 있는 발급 쿠폰은 개수만 보고한다.
+ * coupon.reconcile.repair=false 면 보정 없이 지표 / 로그만 남긴다.
+ * */
+@Component
+@Log4j2
+public class CouponReconciliationJob {
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueRepository couponIssueRepository;
+    private final RedisRepository redisRepository;
+    private final CouponCreateProducer couponCreateProducer;
+    private final CouponPolicyCache couponPolicyCache;
+    private final int chunkSize;
+    private final boolean repair;
+
+    // 쿠폰 id -> 이전 점검에서 Redis 에만 있던 회원 id
+    private final Map<Long, Set<Long>> suspects = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> drift = new HashMap<>();
+    private final Map<String, Counter> repaired = new HashMap<>();
+
+    public CouponReconciliationJob(CouponRepository couponRepository,
+                                   CouponIssueRepository couponIssueRepository,
+                                   RedisRepository redisRepository,
+                                   CouponCreateProducer couponCreateProducer,
+                                   CouponPolicyCache couponPolicyCache,
+                                   @Value("${coupon.reconcile.chunk-size:500}") int chunkSize,
+                                   @Value("${coupon.reconcile.repair:true}") boolean repair,
+                                   MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.couponIssueRepository = couponIssueRepository;
+        this.redisRepository = redisRepository;
+        this.couponCreateProducer = couponCreateProducer;
+        this.couponPolicyCache = couponPolicyCache;
+        this.chunkSize = chunkSize;
+        this.repair = repair;
+
+        for (String type : List.of("missing_row", "count_mismatch", "extra_row")) {
+            drift.put(type, Counter.builder("coupon.reconcile.drift").tag("type", type).register(meterRegistry));
+            repaired.put(type, Counter.builder("coupon.reconcile.repaired").tag("type", type).register(meterRegistry));
+        }
+        Gauge.builder("coupon.reconcile.pending", suspects, map -> map.values().stream().mapToInt(Set::size).sum())
+            .register(meterRegistry);
+    }
+
+    // 발급이 끝난 지 하루가 지나지 않은 쿠폰만 점검
+    @Scheduled(fixedDelayString = "${coupon.reconcile.interval-ms:600000}",
+        initialDelayString = "${coupon.reconcile.interval-ms:600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        List<Coupon> coupons = couponRepository.findByEndDateAfter(LocalDateTime.now().minusDays(1));
+        Set<Long> couponIds = new HashSet<>();
+        for (Coupon coupon : coupons) {
+            couponIds.add(coupon.getCouponId());
+            try {
+                reconcile(coupon.getCouponId());
+            } catch (RuntimeException e) {
+                log.warn("쿠폰 발급 정합성 점검 실패 : {}", coupon.getCouponId(), e);
+            }
+        }
+        suspects.keySet().retainAll(couponIds);
+        log.info("쿠폰 발급 정합성 점검 - 쿠폰 : {}개, {}ms", coupons.size(), System.currentTimeMillis() - start);
+    }
+
+    public void reconcile(Long couponId) {
+        Set<Long> previous = suspects.getOrDefault(couponId, Set.of());
+        Set<Long> missing = new HashSet<>();
+
+        redisRepository.scanCouponUsers(couponId, chunkSize, userIds -> {
+            Set<Long> stored = new HashSet<>(couponIssueRepository.findIssuedUserIds(couponId, userIds));
+            for (Long userId : userIds) {
+                if (!stored.contains(userId)) {
+                    missing.add(userId);
+                }
+            }
+        });
+
+        // 두 번 연속 Redis 에만 있는 회원은 발급 메시지 재전송 (발급 때와 같은 예약 id 라 원래 메시지가 늦게 저장돼도 한 번만 저장됨)
+        Set<Long> pending = new HashSet<>();
+        for (Long userId : missing) {
+            if (!previous.contains(userId)) {
+                pending.add(userId);
+                continue;
+            }
+            drift.get("missing_row").increment();
+            log.warn("쿠폰 발급 누락 - couponId : {}, userId : {}", couponId, userId);
+            if (repair) {
+                couponCreateProducer.create(CouponIssueEvent.builder()
+                    .couponId(couponId)
+                    .userId(userId)
+                    .reservationId(CouponIssueEvent.reservationIdOf(couponId, userId))
+                    .issuedAt(System.currentTimeMillis())
+                    .build());
+                repaired.get("missing_row").increment();
+            }
+        }
+        if (pending.isEmpty()) {
+            suspects.remove(couponId);
+        } else {
+            suspects.put(couponId, pending);
+        }
+
+        long issuedCount = redisRepository.getIssuedCount(couponId);
+        long userCount = redisRepository.countCouponUsers(couponId);
+        if (issuedCount != userCount) {
+            drift.get("count_mismatch").increment();
+            log.warn("쿠폰 발급 수 불일치 - couponId : {}, 발급 수 : {}, 발급 회원 : {}", couponId, issuedCount, userCount);
+            if (repair) {
+                redisRepository.syncIssuedCount(couponId);
+                // 발급 수가 줄었으면 소진 표시를 지우기 위해 모든 서버의 정책 캐시 무효화
+                couponPolicyCache.invalidate(couponId);
+                repaired.get("count_mismatch").increment();
+            }
+        }
+
+        long storedCount = couponIssueRepository.countByCouponId(couponId);
+        if (storedCount > userCount) {
+            drift.get("extra_row").increment(storedCount - userCount);
+            log.warn("Redis 에 없는 발급 쿠폰 - couponId : {}, 저장 : {}, 발급 회원 : {}", couponId, storedCount, userCount);
+        }
+    }
+}
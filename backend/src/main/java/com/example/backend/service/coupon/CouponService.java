@@ -1,5 +1,6 @@
 package com.example.backend.service.coupon;
 
+import com.example.backend.dto.coupon.BestCouponDto;
 import com.example.backend.dto.coupon.CouponCreateDto;
 import com.example.backend.dto.coupon.CouponDto;
 import com.example.backend.dto.coupon.CouponIssueDto;
@@ -13,6 +14,7 @@ import com.example.backend.repository.CouponIssue.RedisRepository;
 import com.example.backend.repository.coupon.CouponRepository;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -26,6 +28,8 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final RedisRepository redisRepository;
     private final CouponIssueRepository couponIssueRepository;
+    private final CouponPolicyCache couponPolicyCache;
+    private final CouponWallet couponWallet;
 
     public void createCoupon(CouponCreateDto couponCreateDto) {
         Coupon coupon = couponCreateDto.toEntity();
@@ -42,20 +46,42 @@ public class CouponService {
          * */
 
 
+        // 선착순 발급용 토큰을 최대 발급 수량만큼 미리 만들어 둠 (발급은 토큰 LPOP 한 번)
+        // 발급 조건(MAX_QUANTITY)보다 먼저 만들어야 토큰 없이 발급되는 구간이 생기지 않음
+        redisRepository.mintCouponTokens(savedCoupon.getCouponId(), coupon.getMaxQuantity());
+
         redisRepository.saveCouponCondition(couponSaveId, CouponCondition.MAX_QUANTITY,
             String.valueOf(coupon.getMaxQuantity()));
         redisRepository.saveCouponCondition(couponSaveId, CouponCondition.START_DATE,
             String.valueOf(coupon.getStartDate()));
         redisRepository.saveCouponCondition(couponSaveId, CouponCondition.END_DATE,
             String.valueOf(coupon.getEndDate()));
+        // 발급 스크립트에서 숫자로 비교하기 위한 발급 기간
+        redisRepository.saveCouponCondition(couponSaveId, CouponCondition.START_TIMESTAMP,
+            String.valueOf(CouponPolicyCache.toEpochMillis(coupon.getStartDate())));
+        redisRepository.saveCouponCondition(couponSaveId, CouponCondition.END_TIMESTAMP,
+            String.valueOf(CouponPolicyCache.toEpochMillis(coupon.getEndDate())));
         redisRepository.saveCouponCondition(couponSaveId, CouponCondition.COUPON_CODE, String.valueOf(coupon.getCouponCode()));
+
+        // 발급 요청 시 Redis 조회 / 파싱 없이 쓰도록 로컬 정책 캐시에 바로 등록
+        couponPolicyCache.put(savedCoupon);
     }
 
     // 이벤트 쿠폰 조회
     public List<CouponDto> searchCouponsByTitle(String keyword) {
         List<Coupon> coupons = couponRepository.findByCouponTitleContaining(keyword);
         return coupons.stream()
-            .map(this::convertToDto)
+            .map(coupon -> convertToDto(coupon, null))
+            .collect(Collectors.toList());
+    }
+
+    // 선착순 쿠폰 조회 - 남은 발급 수량은 Redis 스크립트 한 번으로 함께 조회
+    public List<CouponDto> timeAttackCoupons() {
+        List<Coupon> coupons = couponRepository.findByCouponTitleContaining("timeAttack");
+        Map<Long, Long> remaining = redisRepository.remainingQuantities(
+            coupons.stream().map(Coupon::getCouponId).collect(Collectors.toList()));
+        return coupons.stream()
+            .map(coupon -> convertToDto(coupon, remaining.get(coupon.getCouponId())))
             .collect(Collectors.toList());
     }
 
@@ -82,7 +108,30 @@ public class CouponService {
 
 
 
-    private CouponDto convertToDto(Coupon coupon) {
+    // 보유 쿠폰 중 주문 금액에 가장 많이 할인되는 쿠폰 (없으면 null)
+    public BestCouponDto bestCoupon(Long userId, BigDecimal orderAmount) {
+        if (orderAmount == null || orderAmount.signum() <= 0) {
+            throw new IllegalArgumentException("주문 금액이 올바르지 않습니다.");
+        }
+        return couponWallet.best(userId, orderAmount)
+            .map(coupon -> {
+                BigDecimal discount = coupon.discount(orderAmount);
+                return BestCouponDto.builder()
+                    .userCouponId(coupon.getUserCouponId())
+                    .couponId(coupon.getCouponId())
+                    .couponTitle(coupon.getCouponTitle())
+                    .discountType(coupon.getDiscountType())
+                    .amount(coupon.getAmount())
+                    .endDate(coupon.getEndDate())
+                    .orderAmount(orderAmount)
+                    .discountAmount(discount)
+                    .paymentAmount(orderAmount.subtract(discount))
+                    .build();
+            })
+            .orElse(null);
+    }
+
+    private CouponDto convertToDto(Coupon coupon, Long remainingQuantity) {
         return CouponDto.builder()
             .couponId((coupon.getCouponId()))
             .couponTitle(coupon.getCouponTitle())
@@ -95,6 +144,7 @@ public class CouponService {
             .startDate(coupon.getStartDate())
             .endDate(coupon.getEndDate())
             .content(coupon.getContent())
+            .remainingQuantity(remainingQuantity)
             .build();
     }
 }
@@ -0,0 +1,216 @@
+package com.example.backend.service.coupon;
+
+import com.example.backend.entity.CouponIssue;
+import com.example.backend.entity.enumData.DiscountType;
+import com.example.backend.repository.CouponIssue.CouponIssueRepository;
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/* 회원별 사용 가능 쿠폰(쿠폰 지갑) 캐시
+ * 발급 쿠폰 저장 / 쿠폰 사용이 커밋된 뒤 해당 회원만 무효화하고, Redis 채널로 다른 서버에도 알린다.
+ * 무효화는 회원별 버전을 바꾸는 방식이라, 무효화 전에 조회를 시작한 결과는 저장되지 않는다.
+ * 버전은 전체 공용 순번에서 받으므로 같은 값이 다시 나오지 않아, 지갑이 max-size 를 넘을 때 버전도 함께 비울 수 있다.
+ * */
+@Component
+@Log4j2
+public class CouponWallet implements MessageListener {
+
+    private static final ChannelTopic INVALIDATE_TOPIC = new ChannelTopic("coupon:wallet:invalidate");
+
+    private final CouponIssueRepository couponIssueRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int maxSize;
+
+    private final Map<Long, Cached> wallets = new ConcurrentHashMap<>();
+    // 회원 id -> 버전 (조회했거나 지갑이 저장된 회원만, 지갑 회원을 모두 포함)
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CouponWallet(CouponIssueRepository couponIssueRepository,
+                        RedisTemplate<String, String> redisTemplate,
+                        RedisMessageListenerContainer listenerContainer,
+                        @Value("${coupon.wallet.max-size:100000}") int maxSize) {
+        this.couponIssueRepository = couponIssueRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, INVALIDATE_TOPIC);
+    }
+
+    // 사용 가능한(미사용, 만료 전) 발급 쿠폰
+    public List<WalletCoupon> get(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return load(userId).stream()
+            .filter(coupon -> coupon.isUsable(now))
+            .collect(Collectors.toList());
+    }
+
+    // 해당 쿠폰 정책으로 발급받은 사용 가능한 쿠폰
+    public Optional<WalletCoupon> find(Long userId, Long couponId) {
+        return get(userId).stream()
+            .filter(coupon -> coupon.getCouponId().equals(couponId))
+            .findFirst();
+    }
+
+    // 주문 금액에 적용했을 때 할인이 가장 큰 쿠폰 (만료가 빠른 쿠폰 우선)
+    public Optional<WalletCoupon> best(Long userId, BigDecimal amount) {
+        return get(userId).stream()
+            .filter(coupon -> coupon.discount(amount).signum() > 0)
+            .max(Comparator.comparing((WalletCoupon coupon) -> coupon.discount(amount))
+                .thenComparing(WalletCoupon::getEndDate, Comparator.nullsFirst(Comparator.reverseOrder())));
+    }
+
+    private List<WalletCoupon> load(Long userId) {
+        long version = version(userId);
+        Cached cached = wallets.get(userId);
+        if (cached != null && cached.version == version) {
+            return cached.coupons;
+        }
+
+        List<WalletCoupon> coupons = couponIssueRepository.findUnusedCouponsByUserId(userId).stream()
+            .map(WalletCoupon::new)
+            .collect(Collectors.toUnmodifiableList());
+        if (version(userId) == version) {
+            if (versions.size() >= maxSize) {
+                // 버전을 비우면 조회 중인 결과는 새 버전과 달라서 저장되지 않음
+                wallets.clear();
+                versions.clear();
+            } else {
+                wallets.put(userId, new Cached(version, coupons));
+            }
+        }
+        return coupons;
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤, 아니면 바로 무효화
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        invalidateAll(List.of(userId));
+    }
+
+    // 이 서버는 바로, 다른 서버는 Redis 채널로 무효화 (회원 id 를 쉼표로 묶어 한 번에 발행)
+    public void invalidateAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        userIds.forEach(this::evict);
+        String message = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_TOPIC.getTopic(), message);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 지갑 무효화 발행 실패 : {}", message, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        for (String userId : body.split(",")) {
+            try {
+                evict(Long.valueOf(userId.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 쿠폰 지갑 무효화 메시지 : {}", body);
+            }
+        }
+    }
+
+    // 버전이 없는 회원은 조회 중인 결과도 저장된 지갑도 없으므로 버전을 만들지 않음
+    private void evict(Long userId) {
+        versions.computeIfPresent(userId, (key, version) -> sequence.incrementAndGet());
+        wallets.remove(userId);
+    }
+
+    private long version(Long userId) {
+        return versions.computeIfAbsent(userId, key -> sequence.incrementAndGet());
+    }
+
+    /**
+     * 지갑에 보관하는 발급 쿠폰 (엔티티 대신 필요한 값만 복사)
+     */
+    @Getter
+    public static class WalletCoupon {
+
+        private final Long userCouponId;
+        private final Long couponId;
+        private final String couponTitle;
+        private final DiscountType discountType;
+        private final BigDecimal amount;
+        private final LocalDateTime endDate; // 발급 쿠폰 만료 날짜
+
+        private WalletCoupon(CouponIssue couponIssue) {
+            this.userCouponId = couponIssue.getUserCouponId();
+            this.couponId = couponIssue.getCoupon().getCouponId();
+            this.couponTitle = couponIssue.getCoupon().getCouponTitle();
+            this.discountType = couponIssue.getCoupon().getDiscountType();
+            this.amount = couponIssue.getCoupon().getAmount();
+            this.endDate = couponIssue.getEndDate();
+        }
+
+        private boolean isUsable(LocalDateTime now) {
+            return endDate == null || !endDate.isBefore(now);
+        }
+
+        // 주문 금액에 대한 할인 금액 (주문 금액을 넘지 않음)
+        public BigDecimal discount(BigDecimal orderAmount) {
+            BigDecimal discount;
+            if (discountType == DiscountType.FIXED) {
+                discount = amount;
+            } else if (discountType == DiscountType.PERCENT) {
+                discount = orderAmount.multiply(amount).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            } else {
+                discount = BigDecimal.ZERO;
+            }
+            return discount.min(orderAmount).max(BigDecimal.ZERO);
+        }
+    }
+
+    private static final class Cached {
+
+        private final long version;
+        private final List<WalletCoupon> coupons;
+
+        private Cached(long version, List<WalletCoupon> coupons) {
+            this.version = version;
+            this.coupons = coupons;
+        }
+    }
+}
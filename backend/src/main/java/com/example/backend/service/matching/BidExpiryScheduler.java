@@ -0,0 +1,52 @@
+package com.example.backend.service.matching;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매 틱마다 마감 시간이 지난 입찰을 호가창에서 내리고 FAIL 처리한다.
+ * 호가창 변경은 샤드 단위로 모아서 각 샤드 스레드에서 실행한다.
+ * 서버가 내려가 있던 사이 마감된 입찰은 호가창 적재 직후 첫 틱에서 한 번에 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class BidExpiryScheduler {
+
+    private final MatchingEngine matchingEngine;
+    private final MatchingShards matchingShards;
+    private final BiddingMatchService biddingMatchService;
+
+    @Scheduled(fixedDelay = BidExpiryWheel.TICK_MS)
+    public void expireLapsedBids() {
+        List<BookEntry> due = matchingEngine.pollExpired(LocalDateTime.now());
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<BookEntry>> dueByShard = new HashMap<>();
+        for (BookEntry entry : due) {
+            dueByShard.computeIfAbsent(matchingShards.shardOf(entry.getKey().getModelNum()), shard -> new ArrayList<>()).add(entry);
+        }
+
+        dueByShard.forEach((shard, entries) -> {
+            try {
+                matchingShards.execute(shard, () -> {
+                    biddingMatchService.expire(entries);
+                    return null;
+                });
+            } catch (Exception e) {
+                // 롤백 시 호가창 복구는 BiddingMatchService 에서 처리
+                log.error("입찰 마감 처리 실패 - 샤드 : {}, {}건", shard, entries.size(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.backend.service.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 입찰 마감 시간 관리용 계층형 타이밍 휠
+ * 1초 단위 휠 위에 64배씩 큰 단위의 휠을 쌓아서 (64초, 약 68분, 약 3일, 약 194일)
+ * 먼 마감 시간은 상위 휠에 두었다가 시간이 가까워지면 하위 휠로 내려보낸다.
+ * 등록은 O(1), 한 틱에는 해당 슬롯만 확인하므로 전체 입찰을 훑지 않는다.
+ * 체결 / 취소된 입찰은 휠에서 지우지 않고, 마감 시 호가창에 남아있는지로 판단한다.
+ */
+class BidExpiryWheel {
+
+    static final long TICK_MS = 1000L;
+    private static final int WHEEL_SIZE = 64;
+    private static final int LEVELS = 5;
+
+    private final long[] tickMs = new long[LEVELS];
+    private final Bucket[][] buckets = new Bucket[LEVELS][WHEEL_SIZE];
+
+    // 다음에 처리할 틱의 시작 시간 (TICK_MS 배수)
+    private long currentTime;
+    // 등록 시점에 이미 마감 시간이 지난 입찰
+    private List<BookEntry> overdue = new ArrayList<>();
+
+    BidExpiryWheel(long startTime) {
+        long tick = TICK_MS;
+        for (int level = 0; level < LEVELS; level++) {
+            tickMs[level] = tick;
+            tick *= WHEEL_SIZE;
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                buckets[level][slot] = new Bucket();
+            }
+        }
+        this.currentTime = startTime - startTime % TICK_MS;
+    }
+
+    synchronized void schedule(BookEntry entry, long expiration) {
+        place(new Timer(entry, expiration), overdue);
+    }
+
+    /**
+     * now 까지 지나간 틱을 처리하고 마감된 입찰을 돌려준다.
+     * 틱이 완전히 지난 뒤에 처리하므로 마감 시간보다 먼저 만료되는 일은 없다. (최대 TICK_MS 지연)
+     */
+    synchronized List<BookEntry> advance(long now) {
+        List<BookEntry> due = overdue;
+        overdue = new ArrayList<>();
+
+        while (currentTime + TICK_MS <= now) {
+            // 상위 휠의 틱 경계에 도달하면 해당 슬롯을 하위 휠로 내려보냄
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if (currentTime % tickMs[level] == 0) {
+                    for (Timer timer : bucket(level, currentTime).drain()) {
+                        place(timer, due);
+                    }
+                }
+            }
+            for (Timer timer : bucket(0, currentTime).drain()) {
+                due.add(timer.entry);
+            }
+            currentTime += TICK_MS;
+        }
+        return due;
+    }
+
+    private void place(Timer timer, List<BookEntry> due) {
+        long expiration = timer.expiration;
+        if (expiration / TICK_MS < currentTime / TICK_MS) {
+            due.add(timer.entry);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            long tick = tickMs[level];
+            // 최상위 휠 범위를 넘는 마감 시간은 최상위 휠에 두고, 슬롯이 돌아올 때마다 다시 배치
+            if (expiration / tick - currentTime / tick < WHEEL_SIZE || level == LEVELS - 1) {
+                bucket(level, expiration).add(timer);
+                return;
+            }
+        }
+    }
+
+    private Bucket bucket(int level, long time) {
+        return buckets[level][(int) ((time / tickMs[level]) % WHEEL_SIZE)];
+    }
+
+    private static final class Timer {
+        private final BookEntry entry;
+        private final long expiration;
+
+        private Timer(BookEntry entry, long expiration) {
+            this.entry = entry;
+            this.expiration = expiration;
+        }
+    }
+
+    private static final class Bucket {
+        private List<Timer> timers = new ArrayList<>();
+
+        void add(Timer timer) {
+            timers.add(timer);
+        }
+
+        List<Timer> drain() {
+            List<Timer> drained = timers;
+            timers = new ArrayList<>();
+            return drained;
+        }
+    }
+}
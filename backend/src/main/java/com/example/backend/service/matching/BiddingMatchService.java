@@ -0,0 +1,193 @@
+package com.example.backend.service.matching;
+
+import com.example.backend.entity.BuyingBidding;
+import com.example.backend.entity.Orders;
+import com.example.backend.entity.SalesBidding;
+import com.example.backend.entity.enumData.BiddingStatus;
+import com.example.backend.entity.enumData.OrderStatus;
+import com.example.backend.entity.enumData.SalesStatus;
+import com.example.backend.repository.Bidding.BuyingBiddingRepository;
+import com.example.backend.repository.Bidding.SalesBiddingRepository;
+import com.example.backend.repository.Orders.OrdersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 입찰 등록 / 취소 / 직접 체결 시 메모리 호가창(MatchingEngine)과 DB 상태를 함께 변경한다.
+ * 호가창 변경은 즉시 반영하고, 트랜잭션이 롤백되면 보상 작업으로 되돌린다.
+ * 변경 메서드는 해당 모델번호의 MatchingShards 샤드 안에서 호출되어야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class BiddingMatchService {
+
+    private final MatchingEngine matchingEngine;
+    private final BuyingBiddingRepository buyingBiddingRepository;
+    private final SalesBiddingRepository salesBiddingRepository;
+    private final OrdersRepository ordersRepository;
+    private final TradeLedger tradeLedger;
+
+    // IN 절 하나에 넣을 최대 ID 수
+    private static final int EXPIRE_BATCH_SIZE = 1000;
+
+    /**
+     * 구매 입찰 등록 - 가장 낮은 판매 입찰과 가격이 맞으면 바로 체결
+     */
+    @Transactional
+    public Optional<Orders> placeBuying(BuyingBidding buyingBidding) {
+        BookEntry incoming = BookEntry.from(buyingBidding);
+        Optional<BookEntry> matched = matchingEngine.submit(incoming);
+
+        if (matched.isEmpty()) {
+            compensateOnRollback(() -> matchingEngine.remove(BookSide.BUYING, incoming.getBiddingId()));
+            return Optional.empty();
+        }
+
+        BookEntry resting = matched.get();
+        compensateOnRollback(() -> matchingEngine.add(resting));
+
+        SalesBidding salesBidding = salesBiddingRepository.findById(resting.getBiddingId())
+                .orElseThrow(() -> new IllegalStateException("체결 대상 판매 입찰을 찾을 수 없습니다: " + resting.getBiddingId()));
+
+        return Optional.of(complete(buyingBidding, salesBidding, resting.getPrice()));
+    }
+
+    /**
+     * 판매 입찰 등록 - 가장 높은 구매 입찰과 가격이 맞으면 바로 체결
+     */
+    @Transactional
+    public Optional<Orders> placeSales(SalesBidding salesBidding) {
+        BookEntry incoming = BookEntry.from(salesBidding);
+        Optional<BookEntry> matched = matchingEngine.submit(incoming);
+
+        if (matched.isEmpty()) {
+            compensateOnRollback(() -> matchingEngine.remove(BookSide.SALES, incoming.getBiddingId()));
+            return Optional.empty();
+        }
+
+        BookEntry resting = matched.get();
+        compensateOnRollback(() -> matchingEngine.add(resting));
+
+        BuyingBidding buyingBidding = buyingBiddingRepository.findById(resting.getBiddingId())
+                .orElseThrow(() -> new IllegalStateException("체결 대상 구매 입찰을 찾을 수 없습니다: " + resting.getBiddingId()));
+
+        return Optional.of(complete(buyingBidding, salesBidding, resting.getPrice()));
+    }
+
+    /**
+     * 즉시 판매 / 즉시 구매처럼 특정 입찰을 직접 체결할 때 호가창에서 먼저 내린다.
+     * 이미 다른 요청이 체결했거나 진행 중이 아닌 입찰이면 예외
+     */
+    @Transactional
+    public void fillBuying(BuyingBidding buyingBidding) {
+        BookEntry entry = matchingEngine.remove(BookSide.BUYING, buyingBidding.getBuyingBiddingId())
+                .orElseThrow(() -> new IllegalStateException("이미 체결되었거나 진행 중이 아닌 구매 입찰입니다."));
+        compensateOnRollback(() -> matchingEngine.add(entry));
+
+        buyingBidding.changeBiddingStatus(BiddingStatus.COMPLETE);
+        tradeLedger.record(buyingBidding.getProduct(), buyingBidding.getBuyingBiddingPrice(),
+                buyingBidding.getBuyingBiddingId(), null);
+    }
+
+    @Transactional
+    public void fillSales(SalesBidding salesBidding) {
+        BookEntry entry = matchingEngine.remove(BookSide.SALES, salesBidding.getSalesBiddingId())
+                .orElseThrow(() -> new IllegalStateException("이미 체결되었거나 진행 중이 아닌 판매 입찰입니다."));
+        compensateOnRollback(() -> matchingEngine.add(entry));
+
+        salesBidding.changeSalesStatus(SalesStatus.COMPLETE);
+        tradeLedger.record(salesBidding.getProduct(), salesBidding.getSalesBiddingPrice(),
+                null, salesBidding.getSalesBiddingId());
+    }
+
+    // 입찰 취소 시 호가창에서 제거
+    @Transactional
+    public void cancel(BookSide side, Long biddingId) {
+        matchingEngine.remove(side, biddingId)
+                .ifPresent(entry -> compensateOnRollback(() -> matchingEngine.add(entry)));
+    }
+
+    /**
+     * 마감된 입찰을 호가창에서 내리고 DB 에서도 FAIL 로 변경한다. (이미 체결 / 취소된 입찰은 제외)
+     * 구매 / 판매별로 모아서 IN 절 UPDATE 로 처리하고, 롤백되면 호가창에 다시 올려 다음 틱에 재시도한다.
+     */
+    @Transactional
+    public void expire(List<BookEntry> due) {
+        List<BookEntry> expired = new ArrayList<>();
+        for (BookEntry entry : due) {
+            matchingEngine.remove(entry.getSide(), entry.getBiddingId()).ifPresent(expired::add);
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        compensateOnRollback(() -> expired.forEach(matchingEngine::add));
+
+        List<Long> buyingIds = expired.stream()
+                .filter(entry -> entry.getSide() == BookSide.BUYING)
+                .map(BookEntry::getBiddingId)
+                .toList();
+        List<Long> salesIds = expired.stream()
+                .filter(entry -> entry.getSide() == BookSide.SALES)
+                .map(BookEntry::getBiddingId)
+                .toList();
+
+        int failed = 0;
+        for (int from = 0; from < buyingIds.size(); from += EXPIRE_BATCH_SIZE) {
+            failed += buyingBiddingRepository.expireAllByIds(
+                    buyingIds.subList(from, Math.min(from + EXPIRE_BATCH_SIZE, buyingIds.size())));
+        }
+        for (int from = 0; from < salesIds.size(); from += EXPIRE_BATCH_SIZE) {
+            failed += salesBiddingRepository.expireAllByIds(
+                    salesIds.subList(from, Math.min(from + EXPIRE_BATCH_SIZE, salesIds.size())));
+        }
+
+        log.info("입찰 마감 처리 - 구매 입찰 : {}, 판매 입찰 : {}, 실패 처리 : {}",
+                buyingIds.size(), salesIds.size(), failed);
+    }
+
+    private Orders complete(BuyingBidding buyingBidding, SalesBidding salesBidding, BigDecimal contractPrice) {
+        buyingBidding.changeBiddingStatus(BiddingStatus.COMPLETE);
+        salesBidding.changeSalesStatus(SalesStatus.COMPLETE);
+
+        Orders order = Orders.builder()
+                .user(buyingBidding.getUser())
+                .product(buyingBidding.getProduct())
+                .buyingBidding(buyingBidding)
+                .salesBidding(salesBidding)
+                .orderStatus(OrderStatus.WAITING)
+                .orderPrice(contractPrice)
+                .build();
+
+        tradeLedger.record(buyingBidding.getProduct(), contractPrice,
+                buyingBidding.getBuyingBiddingId(), salesBidding.getSalesBiddingId());
+
+        log.info("입찰 체결 - 구매 입찰 : {}, 판매 입찰 : {}, 체결가 : {}",
+                buyingBidding.getBuyingBiddingId(), salesBidding.getSalesBiddingId(), contractPrice);
+        return ordersRepository.save(order);
+    }
+
+    // 트랜잭션이 커밋되지 않으면 호가창 변경을 되돌린다
+    private void compensateOnRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.service.matching;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 호가창 변경 이벤트 (입찰 등록 / 체결 / 취소 / 만료)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class BookChangedEvent {
+
+    private final String modelNum;
+    private final BookSide side;
+    // 새 입찰이 호가창에 올라간 경우 그 입찰의 등록 시간 (내려간 경우 null)
+    private final LocalDateTime placedAt;
+}
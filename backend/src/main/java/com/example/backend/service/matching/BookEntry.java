@@ -0,0 +1,67 @@
+package com.example.backend.service.matching;
+
+import com.example.backend.entity.BuyingBidding;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.SalesBidding;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 호가창에 올라가 있는 진행 중(PROCESS) 입찰 한 건
+ * 엔티티 대신 체결에 필요한 값만 들고 있어서 영속성 컨텍스트와 무관하게 메모리에 유지할 수 있다.
+ */
+@Getter
+@Builder
+@ToString
+public class BookEntry {
+
+    private final Long biddingId;
+    private final BookSide side;
+    private final BookKey key;
+    private final Long userId;
+    private final Long productId;
+    private final BigDecimal price;
+    private final int quantity;
+    // 입찰 마감 시간 (buyingBiddingTime / salesBiddingTime)
+    private final LocalDateTime deadline;
+    // 입찰 등록 시간
+    private final LocalDateTime placedAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return deadline != null && deadline.isBefore(now);
+    }
+
+    public static BookEntry from(BuyingBidding buyingBidding) {
+        Product product = buyingBidding.getProduct();
+        return BookEntry.builder()
+                .biddingId(buyingBidding.getBuyingBiddingId())
+                .side(BookSide.BUYING)
+                .key(BookKey.of(product.getModelNum(), product.getProductSize()))
+                .userId(buyingBidding.getUser().getUserId())
+                .productId(product.getProductId())
+                .price(buyingBidding.getBuyingBiddingPrice())
+                .quantity(buyingBidding.getBuyingQuantity())
+                .deadline(buyingBidding.getBuyingBiddingTime())
+                .placedAt(buyingBidding.getCreateDate() != null ? buyingBidding.getCreateDate() : LocalDateTime.now())
+                .build();
+    }
+
+    public static BookEntry from(SalesBidding salesBidding) {
+        Product product = salesBidding.getProduct();
+        return BookEntry.builder()
+                .biddingId(salesBidding.getSalesBiddingId())
+                .side(BookSide.SALES)
+                .key(BookKey.of(product.getModelNum(), product.getProductSize()))
+                .userId(salesBidding.getUser().getUserId())
+                .productId(product.getProductId())
+                .price(salesBidding.getSalesBiddingPrice())
+                .quantity(salesBidding.getSalesQuantity())
+                .deadline(salesBidding.getSalesBiddingTime())
+                .placedAt(salesBidding.getCreateDate() != null ? salesBidding.getCreateDate() : LocalDateTime.now())
+                .build();
+    }
+}
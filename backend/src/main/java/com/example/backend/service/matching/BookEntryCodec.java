@@ -0,0 +1,74 @@
+package com.example.backend.service.matching;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 호가창 저널 / 스냅샷 파일에 BookEntry 를 쓰고 읽는다.
+ */
+final class BookEntryCodec {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private BookEntryCodec() {
+    }
+
+    static void write(DataOutput out, BookEntry entry) throws IOException {
+        out.writeLong(entry.getBiddingId());
+        out.writeByte(entry.getSide().ordinal());
+        out.writeUTF(entry.getKey().getModelNum());
+        writeNullable(out, entry.getKey().getProductSize());
+        out.writeLong(entry.getUserId());
+        out.writeLong(entry.getProductId());
+        out.writeUTF(entry.getPrice().toPlainString());
+        out.writeInt(entry.getQuantity());
+        writeTime(out, entry.getDeadline());
+        writeTime(out, entry.getPlacedAt());
+    }
+
+    static BookEntry read(DataInput in) throws IOException {
+        return BookEntry.builder()
+                .biddingId(in.readLong())
+                .side(BookSide.values()[in.readByte()])
+                .key(BookKey.of(in.readUTF(), readNullable(in)))
+                .userId(in.readLong())
+                .productId(in.readLong())
+                .price(new BigDecimal(in.readUTF()))
+                .quantity(in.readInt())
+                .deadline(readTime(in))
+                .placedAt(readTime(in))
+                .build();
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeTime(DataOutput out, LocalDateTime time) throws IOException {
+        if (time == null) {
+            out.writeLong(NULL_TIME);
+            return;
+        }
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static LocalDateTime readTime(DataInput in) throws IOException {
+        long epochSecond = in.readLong();
+        if (epochSecond == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.service.matching;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 호가창 식별자 - 모델번호 + 사이즈 단위로 체결이 이루어진다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(staticName = "of")
+public class BookKey {
+
+    private final String modelNum;
+    private final String productSize;
+}
@@ -0,0 +1,12 @@
+package com.example.backend.service.matching;
+
+public enum BookSide {
+    // 구매 입찰 (BuyingBidding)
+    BUYING,
+    // 판매 입찰 (SalesBidding)
+    SALES;
+
+    public BookSide opposite() {
+        return this == BUYING ? SALES : BUYING;
+    }
+}
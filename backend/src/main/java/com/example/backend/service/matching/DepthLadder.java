@@ -0,0 +1,68 @@
+package com.example.backend.service.matching;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+
+/**
+ * (모델번호, 사이즈) 하나의 가격대별 잔량 스냅샷 (불변)
+ * 구매 입찰은 높은 가격부터, 판매 입찰은 낮은 가격부터 가격대당 한 줄로 합쳐져 있다.
+ */
+@Getter
+@ToString
+public class DepthLadder {
+
+    public static final DepthLadder EMPTY = new DepthLadder(List.of(), List.of());
+
+    private final List<DepthLevel> buying;
+    private final List<DepthLevel> sales;
+
+    private DepthLadder(List<DepthLevel> buying, List<DepthLevel> sales) {
+        this.buying = buying;
+        this.sales = sales;
+    }
+
+    /**
+     * 호가창의 가격대(PriceLevel) 합계를 그대로 옮긴다. 양쪽 모두 maxLevels 가격대까지만 보관
+     */
+    public static DepthLadder of(OrderBook book, int maxLevels) {
+        return new DepthLadder(
+                levels(book.readLevels(BookSide.BUYING), maxLevels),
+                levels(book.readLevels(BookSide.SALES), maxLevels));
+    }
+
+    private static List<DepthLevel> levels(NavigableMap<BigDecimal, PriceLevel> levels, int maxLevels) {
+        List<DepthLevel> ladder = new ArrayList<>(Math.min(levels.size(), maxLevels));
+        for (PriceLevel level : levels.values()) {
+            if (ladder.size() == maxLevels) {
+                break;
+            }
+            ladder.add(new DepthLevel(level.getPrice(), level.getTotalQuantity()));
+        }
+        return List.copyOf(ladder);
+    }
+
+    // 가장 유리한 가격부터 n 개 가격대
+    public List<DepthLevel> top(BookSide side, int n) {
+        List<DepthLevel> ladder = side == BookSide.BUYING ? buying : sales;
+        return ladder.size() <= n ? ladder : ladder.subList(0, n);
+    }
+
+    public boolean isEmpty() {
+        return buying.isEmpty() && sales.isEmpty();
+    }
+
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class DepthLevel {
+
+        private final BigDecimal price;
+        private final int quantity;
+    }
+}
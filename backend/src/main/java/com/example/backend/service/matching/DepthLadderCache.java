@@ -0,0 +1,56 @@
+package com.example.backend.service.matching;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (모델번호, 사이즈)별 가격대 잔량(DepthLadder) 캐시
+ * 호가창이 바뀔 때마다 MatchingEngine 이 바뀐 사이즈만 다시 만들므로,
+ * 입찰 희망 내역 조회 시 진행 중인 입찰 행 전체를 읽어서 합칠 필요가 없다.
+ */
+@Component
+public class DepthLadderCache {
+
+    // modelNum -> (productSize -> DepthLadder)
+    private final Map<String, Map<String, DepthLadder>> bySize = new ConcurrentHashMap<>();
+    private final int maxLevels;
+
+    public DepthLadderCache(@Value("${bidding.depth.max-levels:50}") int maxLevels) {
+        this.maxLevels = maxLevels;
+    }
+
+    public DepthLadder get(String modelNum, String productSize) {
+        Map<String, DepthLadder> sizes = bySize.get(modelNum);
+        if (sizes == null) {
+            return DepthLadder.EMPTY;
+        }
+        return sizes.getOrDefault(productSize, DepthLadder.EMPTY);
+    }
+
+    // 사이즈 순으로 정렬된 스냅샷
+    public Map<String, DepthLadder> getSizes(String modelNum) {
+        return new TreeMap<>(bySize.getOrDefault(modelNum, Map.of()));
+    }
+
+    /**
+     * 호가창 변경 직후 호출 - 해당 사이즈의 잔량 스냅샷만 다시 만든다.
+     */
+    void refresh(OrderBook book) {
+        BookKey key = book.getKey();
+        DepthLadder ladder = DepthLadder.of(book, maxLevels);
+        Map<String, DepthLadder> sizes = bySize.computeIfAbsent(key.getModelNum(), modelNum -> new ConcurrentHashMap<>());
+        if (ladder.isEmpty()) {
+            sizes.remove(key.getProductSize());
+        } else {
+            sizes.put(key.getProductSize(), ladder);
+        }
+    }
+
+    void clear() {
+        bySize.clear();
+    }
+}
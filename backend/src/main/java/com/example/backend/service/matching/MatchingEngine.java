@@ -0,0 +1,172 @@
+package com.example.backend.service.matching;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리에 유지되는 전체 호가창
+ * (모델번호, 사이즈)별 OrderBook 과 입찰 ID -> BookEntry 인덱스를 함께 관리한다.
+ * 호가창 변경은 모델번호가 속한 MatchingShards 샤드 스레드에서만 호출되어야 하며 (단일 작성자),
+ * 변경 직후 TopOfBookCache, DepthLadderCache 를 갱신한다.
+ * 마감 시간이 있는 입찰은 호가창에 올라갈 때 BidExpiryWheel 에 등록된다.
+ * 모든 변경은 메모리 반영 후 OrderBookJournal 에 기록된다. (스냅샷이 저널보다 앞서지 않도록 순서 유지)
+ * 변경 후 BookChangedEvent 를 발행한다. (복구 적재 제외)
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class MatchingEngine {
+
+    private final TopOfBookCache topOfBookCache;
+    private final DepthLadderCache depthLadderCache;
+    private final OrderBookJournal journal;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<BookKey, OrderBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, BookEntry> buyingIndex = new ConcurrentHashMap<>();
+    private final Map<Long, BookEntry> salesIndex = new ConcurrentHashMap<>();
+    private final BidExpiryWheel expiryWheel = new BidExpiryWheel(System.currentTimeMillis());
+
+    /**
+     * 반대편 호가와 체결을 시도하고, 체결되지 않으면 호가창에 올린다.
+     * @return 체결된 상대 입찰 (체결되지 않았으면 empty)
+     */
+    public Optional<BookEntry> submit(BookEntry incoming) {
+        OrderBook book = book(incoming.getKey());
+        Optional<BookEntry> matched = book.pollMatch(incoming, LocalDateTime.now());
+        if (matched.isPresent()) {
+            index(matched.get().getSide()).remove(matched.get().getBiddingId());
+            journal.appendRemove(matched.get().getSide(), matched.get().getBiddingId());
+            refreshCaches(book);
+            eventPublisher.publishEvent(new BookChangedEvent(incoming.getKey().getModelNum(), matched.get().getSide(), null));
+        } else if (rest(book, incoming)) {
+            journal.appendAdd(incoming);
+            refreshCaches(book);
+            eventPublisher.publishEvent(new BookChangedEvent(incoming.getKey().getModelNum(), incoming.getSide(), incoming.getPlacedAt()));
+        }
+        return matched;
+    }
+
+    /**
+     * 체결 없이 호가창에 올린다. (서버 시작 시 적재, 롤백 시 복구)
+     */
+    public void add(BookEntry entry) {
+        OrderBook book = book(entry.getKey());
+        if (rest(book, entry)) {
+            journal.appendAdd(entry);
+            refreshCaches(book);
+            eventPublisher.publishEvent(new BookChangedEvent(entry.getKey().getModelNum(), entry.getSide(), entry.getPlacedAt()));
+        }
+    }
+
+    /**
+     * 저널 / 스냅샷에서 복구한 입찰을 다시 기록하지 않고 호가창에 올린다.
+     */
+    public void restore(BookEntry entry) {
+        OrderBook book = book(entry.getKey());
+        rest(book, entry);
+        refreshCaches(book);
+    }
+
+    /**
+     * 취소, 직접 체결 등으로 호가창에서 내린다.
+     */
+    public Optional<BookEntry> remove(BookSide side, Long biddingId) {
+        BookEntry entry = index(side).get(biddingId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        OrderBook book = book(entry.getKey());
+        if (!book.remove(entry)) {
+            return Optional.empty();
+        }
+        index(side).remove(biddingId);
+        journal.appendRemove(side, biddingId);
+        refreshCaches(book);
+        eventPublisher.publishEvent(new BookChangedEvent(entry.getKey().getModelNum(), side, null));
+        return Optional.of(entry);
+    }
+
+    /**
+     * 마감 시간이 지난 입찰 목록 (호가창에서 내리는 건 각 샤드에서 remove 로 처리)
+     * 이미 체결 / 취소되어 호가창에 없는 입찰도 포함될 수 있다.
+     */
+    public List<BookEntry> pollExpired(LocalDateTime now) {
+        return expiryWheel.advance(toEpochMilli(now));
+    }
+
+    public Optional<BookEntry> find(BookSide side, Long biddingId) {
+        return Optional.ofNullable(index(side).get(biddingId));
+    }
+
+    // 스냅샷 / 검증용 - 진행 중인 입찰 ID 복사본
+    public Set<Long> ids(BookSide side) {
+        return new HashSet<>(index(side).keySet());
+    }
+
+    // 스냅샷용 - 호가창에 있는 전체 입찰
+    public List<BookEntry> entries() {
+        List<BookEntry> entries = new ArrayList<>(buyingIndex.size() + salesIndex.size());
+        entries.addAll(buyingIndex.values());
+        entries.addAll(salesIndex.values());
+        return entries;
+    }
+
+    public boolean contains(BookSide side, Long biddingId) {
+        return index(side).containsKey(biddingId);
+    }
+
+    public int size(BookSide side) {
+        return index(side).size();
+    }
+
+    public void clear() {
+        books.clear();
+        buyingIndex.clear();
+        salesIndex.clear();
+        topOfBookCache.clear();
+        depthLadderCache.clear();
+    }
+
+    // 바뀐 호가창(모델번호 + 사이즈)의 최고·최저가와 가격대 잔량을 다시 만든다
+    private void refreshCaches(OrderBook book) {
+        topOfBookCache.refresh(book);
+        depthLadderCache.refresh(book);
+    }
+
+    private boolean rest(OrderBook book, BookEntry entry) {
+        if (index(entry.getSide()).putIfAbsent(entry.getBiddingId(), entry) != null) {
+            log.info("이미 호가창에 있는 입찰입니다 : {}", entry.getBiddingId());
+            return false;
+        }
+        book.add(entry);
+        if (entry.getDeadline() != null) {
+            expiryWheel.schedule(entry, toEpochMilli(entry.getDeadline()));
+        }
+        return true;
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private OrderBook book(BookKey key) {
+        return books.computeIfAbsent(key, OrderBook::new);
+    }
+
+    private Map<Long, BookEntry> index(BookSide side) {
+        return side == BookSide.BUYING ? buyingIndex : salesIndex;
+    }
+}
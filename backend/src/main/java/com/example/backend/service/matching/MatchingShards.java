@@ -0,0 +1,128 @@
+package com.example.backend.service.matching;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 입찰 / 주문 변경을 모델번호 해시로 나눈 단일 스레드 샤드에서 실행한다.
+ * 같은 모델번호의 호가창은 항상 같은 스레드에서만 변경되므로 호가창과 입찰 행에 별도 락이 필요 없다.
+ * 작업은 샤드 스레드의 트랜잭션 안에서 실행되고, 호출한 스레드는 결과를 기다린다.
+ */
+@Component
+@Log4j2
+public class MatchingShards {
+
+    // 샤드 스레드가 자신의 샤드 번호를 기억 (샤드 안에서 다시 호출되는 경우 판별용)
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor[] shards;
+    private final TransactionTemplate transactionTemplate;
+
+    public MatchingShards(@Value("${bidding.shard.count:4}") int shardCount,
+                          @Value("${bidding.shard.queue-capacity:10000}") int queueCapacity,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shards = new ThreadPoolExecutor[shardCount];
+
+        for (int i = 0; i < shardCount; i++) {
+            int index = i;
+            ThreadPoolExecutor shard = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), runnable -> new Thread(() -> {
+                        CURRENT_SHARD.set(index);
+                        runnable.run();
+                    }, "bidding-shard-" + index));
+            shards[i] = shard;
+
+            Gauge.builder("bidding.shard.queue.depth", shard, executor -> executor.getQueue().size())
+                    .description("샤드별 대기 중인 입찰 / 주문 작업 수")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        log.info("입찰 샤드 {}개 시작", shardCount);
+    }
+
+    public int shardOf(String modelNum) {
+        return Math.floorMod(modelNum.hashCode(), shards.length);
+    }
+
+    /**
+     * 모델번호가 속한 샤드에서 트랜잭션으로 실행하고 결과를 돌려준다.
+     */
+    public <T> T execute(String modelNum, Supplier<T> task) {
+        return execute(shardOf(modelNum), task);
+    }
+
+    public void run(String modelNum, Runnable task) {
+        execute(shardOf(modelNum), () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(int shard, Supplier<T> task) {
+        return call(shard, () -> transactionTemplate.execute(status -> task.get()));
+    }
+
+    /**
+     * 트랜잭션 없이 샤드 스레드에서 실행한다. (DB 작업 없이 메모리 호가창만 변경할 때)
+     */
+    public <T> T call(int shard, Supplier<T> task) {
+        // 이미 해당 샤드 스레드라면 바로 실행 (샤드 안에서 다시 호출된 경우)
+        Integer current = CURRENT_SHARD.get();
+        if (current != null && current == shard) {
+            return task.get();
+        }
+
+        Future<T> future;
+        try {
+            future = shards[shard].submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("주문 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 처리 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public int size() {
+        return shards.length;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backend.service.matching;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 모델번호 + 사이즈 하나에 대한 호가창
+ * 구매 입찰은 높은 가격부터, 판매 입찰은 낮은 가격부터 정렬되어 가격 우선 -> 시간 우선으로 체결한다.
+ * 스레드 안전하지 않으며, 모델번호별 샤드 스레드(MatchingShards) 하나에서만 접근하므로 따로 동기화하지 않는다.
+ */
+public class OrderBook {
+
+    @Getter
+    private final BookKey key;
+
+    private final NavigableMap<BigDecimal, PriceLevel> buying = new TreeMap<>(Comparator.reverseOrder());
+    private final NavigableMap<BigDecimal, PriceLevel> sales = new TreeMap<>();
+    // 양쪽 진행 중 입찰 수
+    private int buyingCount;
+    private int salesCount;
+
+    public OrderBook(BookKey key) {
+        this.key = key;
+    }
+
+    public void add(BookEntry entry) {
+        levels(entry.getSide())
+                .computeIfAbsent(entry.getPrice(), PriceLevel::new)
+                .add(entry);
+        adjustCount(entry.getSide(), 1);
+    }
+
+    public boolean remove(BookEntry entry) {
+        NavigableMap<BigDecimal, PriceLevel> levels = levels(entry.getSide());
+        PriceLevel level = levels.get(entry.getPrice());
+        if (level == null || !level.remove(entry)) {
+            return false;
+        }
+        if (level.isEmpty()) {
+            levels.remove(entry.getPrice());
+        }
+        adjustCount(entry.getSide(), -1);
+        return true;
+    }
+
+    /**
+     * 새로 들어온 입찰과 가격이 맞는 반대편 입찰 중 가장 유리한 가격, 가장 먼저 들어온 입찰을 꺼낸다.
+     * 본인 입찰과 마감 시간이 지난 입찰은 건너뛴다.
+     */
+    public Optional<BookEntry> pollMatch(BookEntry incoming, LocalDateTime now) {
+        NavigableMap<BigDecimal, PriceLevel> opposite = levels(incoming.getSide().opposite());
+
+        Iterator<PriceLevel> levelIterator = opposite.values().iterator();
+        while (levelIterator.hasNext()) {
+            PriceLevel level = levelIterator.next();
+            if (!crosses(incoming, level.getPrice())) {
+                break;
+            }
+            for (BookEntry resting : level.getEntries()) {
+                if (resting.getUserId().equals(incoming.getUserId()) || resting.isExpired(now)) {
+                    continue;
+                }
+                level.remove(resting);
+                if (level.isEmpty()) {
+                    levelIterator.remove();
+                }
+                adjustCount(resting.getSide(), -1);
+                return Optional.of(resting);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 구매가 >= 판매가 이면 체결 가능
+    private boolean crosses(BookEntry incoming, BigDecimal restingPrice) {
+        if (incoming.getSide() == BookSide.BUYING) {
+            return incoming.getPrice().compareTo(restingPrice) >= 0;
+        }
+        return incoming.getPrice().compareTo(restingPrice) <= 0;
+    }
+
+    public NavigableMap<BigDecimal, PriceLevel> levels(BookSide side) {
+        return side == BookSide.BUYING ? buying : sales;
+    }
+
+    public NavigableMap<BigDecimal, PriceLevel> readLevels(BookSide side) {
+        return Collections.unmodifiableNavigableMap(levels(side));
+    }
+
+    public int count(BookSide side) {
+        return side == BookSide.BUYING ? buyingCount : salesCount;
+    }
+
+    private void adjustCount(BookSide side, int delta) {
+        if (side == BookSide.BUYING) {
+            buyingCount += delta;
+        } else {
+            salesCount += delta;
+        }
+    }
+
+    public boolean isEmpty() {
+        return buying.isEmpty() && sales.isEmpty();
+    }
+}
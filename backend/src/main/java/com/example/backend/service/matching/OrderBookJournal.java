@@ -0,0 +1,349 @@
+package com.example.backend.service.matching;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 호가창 변경 저널 (append-only, 메모리 맵 파일) + 주기적 스냅샷
+ * 서버 시작 시 DB 전체를 다시 읽지 않고 마지막 스냅샷에 이후 저널만 재생해서 호가창을 복구한다.
+ *
+ * 레코드 : [본문 길이 int][CRC32 int][순번 long][타입 byte][내용]
+ * 같은 입찰에 대한 ADD / REMOVE 는 마지막 기록만 의미가 있으므로 재생은 몇 번을 해도 결과가 같다.
+ */
+@Component
+@Log4j2
+public class OrderBookJournal {
+
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final int HEADER_SIZE = 8;
+    private static final int SNAPSHOT_MAGIC = 0x4F424B53;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+
+    private final ByteArrayOutputStream bodyBuffer = new ByteArrayOutputStream(256);
+    private final DataOutputStream body = new DataOutputStream(bodyBuffer);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long sequence;
+    private boolean dirty;
+
+    public OrderBookJournal(@Value("${bidding.journal.enabled:true}") boolean enabled,
+                            @Value("${bidding.journal.dir:./data/orderbook}") String directory,
+                            @Value("${bidding.journal.segment-size:67108864}") int segmentSize) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+
+        // 저널이 스냅샷보다 뒤처진 순번으로 다시 시작하지 않도록 스냅샷 순번부터 이어감
+        Snapshot snapshot = latestSnapshot();
+        sequence = snapshot == null ? 0 : snapshot.sequence;
+
+        List<Segment> segments = segments();
+        if (segments.isEmpty()) {
+            openSegment(sequence + 1);
+            return;
+        }
+
+        Segment last = segments.get(segments.size() - 1);
+        channel = FileChannel.open(last.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentSize));
+        int end = scan(buffer, (seq, type, in) -> sequence = Math.max(sequence, seq));
+        buffer.position(end);
+        log.info("호가창 저널 열기 - {}, 마지막 순번 : {}", last.path, sequence);
+    }
+
+    public void appendAdd(BookEntry entry) {
+        append(ADD, entry.getSide(), entry.getBiddingId(), entry);
+    }
+
+    public void appendRemove(BookSide side, Long biddingId) {
+        append(REMOVE, side, biddingId, null);
+    }
+
+    public synchronized long sequence() {
+        return sequence;
+    }
+
+    private synchronized void append(byte type, BookSide side, Long biddingId, BookEntry entry) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            bodyBuffer.reset();
+            body.writeLong(sequence + 1);
+            body.writeByte(type);
+            if (type == ADD) {
+                BookEntryCodec.write(body, entry);
+            } else {
+                body.writeByte(side.ordinal());
+                body.writeLong(biddingId);
+            }
+            byte[] bytes = bodyBuffer.toByteArray();
+
+            if (buffer.remaining() < HEADER_SIZE + bytes.length) {
+                roll(sequence + 1);
+            }
+            crc.reset();
+            crc.update(bytes);
+            buffer.putInt(bytes.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(bytes);
+            sequence++;
+            dirty = true;
+        } catch (IOException e) {
+            // 저널 기록 실패로 입찰 처리를 막지는 않음 - 재시작 시 OrderBookVerifier 가 DB 기준으로 보정
+            log.error("호가창 저널 기록 실패 - {} {}", side, biddingId, e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        if (enabled && dirty) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * snapshotSequence 시점의 호가창 스냅샷을 저장하고, 스냅샷에 모두 포함된 저널 세그먼트와 이전 스냅샷을 지운다.
+     */
+    public void snapshot(long snapshotSequence, Collection<BookEntry> entries) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path target = directory.resolve(snapshotName(snapshotSequence));
+        Path temp = directory.resolve(snapshotName(snapshotSequence) + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(snapshotSequence);
+            out.writeInt(entries.size());
+            for (BookEntry entry : entries) {
+                BookEntryCodec.write(out, entry);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (Snapshot old : snapshots()) {
+            if (old.sequence < snapshotSequence) {
+                Files.deleteIfExists(old.path);
+            }
+        }
+        List<Segment> segments = segments();
+        for (int i = 0; i < segments.size() - 1; i++) {
+            if (segments.get(i + 1).firstSequence <= snapshotSequence + 1) {
+                Files.deleteIfExists(segments.get(i).path);
+            }
+        }
+        log.info("호가창 스냅샷 저장 - 순번 : {}, 입찰 : {}건", snapshotSequence, entries.size());
+    }
+
+    /**
+     * 마지막 스냅샷 + 이후 저널을 재생한 호가창 (저널이 꺼져 있거나 기록이 없으면 빈 결과)
+     */
+    public Restored restore() throws IOException {
+        Map<Long, BookEntry> buying = new HashMap<>();
+        Map<Long, BookEntry> sales = new HashMap<>();
+        if (!enabled) {
+            return new Restored(List.of(), 0, 0);
+        }
+
+        long snapshotSequence = 0;
+        Snapshot snapshot = latestSnapshot();
+        if (snapshot != null) {
+            snapshotSequence = snapshot.sequence;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot.path)))) {
+                if (in.readInt() != SNAPSHOT_MAGIC || in.readLong() != snapshotSequence) {
+                    throw new IOException("손상된 호가창 스냅샷입니다: " + snapshot.path);
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    BookEntry entry = BookEntryCodec.read(in);
+                    (entry.getSide() == BookSide.BUYING ? buying : sales).put(entry.getBiddingId(), entry);
+                }
+            }
+        }
+
+        long from = snapshotSequence;
+        int[] replayed = {0};
+        List<Segment> segments = segments();
+        for (int i = 0; i < segments.size(); i++) {
+            // 스냅샷에 모두 포함된 세그먼트는 건너뜀
+            if (i + 1 < segments.size() && segments.get(i + 1).firstSequence <= from + 1) {
+                continue;
+            }
+            try (FileChannel segmentChannel = FileChannel.open(segments.get(i).path, StandardOpenOption.READ)) {
+                ByteBuffer segment = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentChannel.size());
+                scan(segment, (seq, type, in) -> {
+                    if (seq <= from) {
+                        return;
+                    }
+                    if (type == ADD) {
+                        BookEntry entry = BookEntryCodec.read(in);
+                        (entry.getSide() == BookSide.BUYING ? buying : sales).put(entry.getBiddingId(), entry);
+                    } else {
+                        BookSide side = BookSide.values()[in.readByte()];
+                        (side == BookSide.BUYING ? buying : sales).remove(in.readLong());
+                    }
+                    replayed[0]++;
+                });
+            }
+        }
+
+        List<BookEntry> entries = new ArrayList<>(buying.size() + sales.size());
+        entries.addAll(buying.values());
+        entries.addAll(sales.values());
+        return new Restored(entries, snapshotSequence, replayed[0]);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    // 유효한 레코드를 끝까지 읽고 마지막 레코드 다음 위치를 돌려줌 (길이 0 또는 CRC 불일치에서 멈춤)
+    private int scan(ByteBuffer segment, RecordHandler handler) throws IOException {
+        ByteBuffer view = segment.duplicate();
+        view.position(0);
+        int position = 0;
+        while (view.remaining() >= HEADER_SIZE) {
+            int length = view.getInt();
+            int checksum = view.getInt();
+            if (length <= 0 || length > view.remaining()) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            view.get(bytes);
+            CRC32 recordCrc = new CRC32();
+            recordCrc.update(bytes);
+            if ((int) recordCrc.getValue() != checksum) {
+                break;
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            handler.handle(in.readLong(), in.readByte(), in);
+            position = view.position();
+        }
+        return position;
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        buffer.force();
+        channel.close();
+        openSegment(firstSequence);
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", firstSequence) + SEGMENT_SUFFIX);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        log.info("호가창 저널 세그먼트 생성 - {}", path);
+    }
+
+    private List<Segment> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(Path::getFileName)
+                    .map(Path::toString)
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> new Segment(directory.resolve(name),
+                            Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))))
+                    .sorted(Comparator.comparingLong(segment -> segment.firstSequence))
+                    .toList();
+        }
+    }
+
+    private List<Snapshot> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(Path::getFileName)
+                    .map(Path::toString)
+                    .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    .map(name -> new Snapshot(directory.resolve(name),
+                            Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()))))
+                    .sorted(Comparator.comparingLong(snapshot -> snapshot.sequence))
+                    .toList();
+        }
+    }
+
+    private Snapshot latestSnapshot() throws IOException {
+        List<Snapshot> snapshots = snapshots();
+        return snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1);
+    }
+
+    private String snapshotName(long sequence) {
+        return SNAPSHOT_PREFIX + String.format("%020d", sequence) + SNAPSHOT_SUFFIX;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Restored {
+        private final List<BookEntry> entries;
+        private final long snapshotSequence;
+        private final int replayed;
+    }
+
+    private interface RecordHandler {
+        void handle(long sequence, byte type, DataInputStream in) throws IOException;
+    }
+
+    @RequiredArgsConstructor
+    private static class Segment {
+        private final Path path;
+        private final long firstSequence;
+    }
+
+    @RequiredArgsConstructor
+    private static class Snapshot {
+        private final Path path;
+        private final long sequence;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.service.matching;
+
+/**
+ * 서버 시작 시 호가창 복구(저널 재생 + DB 검증)가 끝났음을 알리는 이벤트
+ */
+public class OrderBookRecoveredEvent {
+}
@@ -0,0 +1,101 @@
+package com.example.backend.service.matching;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 시작 시 호가창 복구 (스냅샷 + 저널 재생 -> DB 검증 / 보정) 와 주기적 스냅샷 저장
+ * 저널이 없거나 읽지 못하면 검증 단계에서 DB 의 진행 중 입찰 전체를 적재한다.
+ * 복구는 웹 서버 / Kafka 리스너보다 먼저 시작되는 SmartLifecycle 단계에서 실행되므로,
+ * 복구가 끝나기 전에는 입찰 / 주문 요청이 들어오지 않고 호가창을 건드리는 다른 스레드도 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class OrderBookRecovery implements SmartLifecycle {
+
+    private final MatchingEngine matchingEngine;
+    private final MatchingShards matchingShards;
+    private final OrderBookJournal journal;
+    private final OrderBookVerifier verifier;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean recovered;
+
+    @Override
+    public void start() {
+        if (!recovered) {
+            recover();
+        }
+    }
+
+    @Override
+    public void stop() {
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recovered;
+    }
+
+    // 웹 서버(Integer.MAX_VALUE - 2048), Kafka 리스너(Integer.MAX_VALUE - 100) 보다 먼저 시작
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public void recover() {
+        long start = System.currentTimeMillis();
+        matchingEngine.clear();
+
+        try {
+            OrderBookJournal.Restored restored = journal.restore();
+            Map<Integer, List<BookEntry>> entriesByShard = new HashMap<>();
+            for (BookEntry entry : restored.getEntries()) {
+                entriesByShard.computeIfAbsent(matchingShards.shardOf(entry.getKey().getModelNum()), shard -> new ArrayList<>()).add(entry);
+            }
+            entriesByShard.forEach((shard, entries) -> matchingShards.call(shard, () -> {
+                entries.forEach(matchingEngine::restore);
+                return null;
+            }));
+            log.info("호가창 저널 복구 - 스냅샷 순번 : {}, 재생 : {}건, 입찰 : {}건",
+                    restored.getSnapshotSequence(), restored.getReplayed(), restored.getEntries().size());
+        } catch (IOException | RuntimeException e) {
+            log.error("호가창 저널 복구 실패 - DB 에서 다시 적재합니다.", e);
+            matchingEngine.clear();
+        }
+
+        OrderBookVerifier.Result result = verifier.verify(true);
+        log.info("호가창 적재 완료 - 구매 입찰 : {}, 판매 입찰 : {}, 보정 : {}, {}ms",
+                matchingEngine.size(BookSide.BUYING), matchingEngine.size(BookSide.SALES), result,
+                System.currentTimeMillis() - start);
+
+        recovered = true;
+        snapshot();
+        eventPublisher.publishEvent(new OrderBookRecoveredEvent());
+    }
+
+    @Scheduled(fixedDelayString = "${bidding.journal.snapshot-interval-ms:300000}")
+    public synchronized void snapshot() {
+        if (!recovered) {
+            return;
+        }
+        // 순번을 먼저 읽고 호가창을 복사 - 복사 중 바뀐 입찰은 이후 저널 재생으로 맞춰짐
+        long sequence = journal.sequence();
+        try {
+            journal.snapshot(sequence, matchingEngine.entries());
+        } catch (IOException e) {
+            log.error("호가창 스냅샷 저장 실패 - 순번 : {}", sequence, e);
+        }
+    }
+}
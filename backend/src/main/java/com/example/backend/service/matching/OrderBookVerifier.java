@@ -0,0 +1,129 @@
+package com.example.backend.service.matching;
+
+import com.example.backend.repository.Bidding.BuyingBiddingRepository;
+import com.example.backend.repository.Bidding.SalesBiddingRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메모리 호가창과 DB 의 진행 중(PROCESS) 입찰을 ID 단위로 비교한다.
+ * DB 에서는 ID 만 읽고, 호가창에 빠진 입찰만 엔티티로 조회해서 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class OrderBookVerifier {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final MatchingEngine matchingEngine;
+    private final MatchingShards matchingShards;
+    private final BuyingBiddingRepository buyingBiddingRepository;
+    private final SalesBiddingRepository salesBiddingRepository;
+
+    /**
+     * repair 가 true 면 DB 기준으로 빠진 입찰은 호가창에 올리고, 진행 중이 아닌 입찰은 내린다.
+     * 비교 중에도 입찰이 계속 들어오므로 보정은 서버 시작 직후 실행하는 것을 전제로 한다.
+     */
+    @Transactional(readOnly = true)
+    public Result verify(boolean repair) {
+        Result result = new Result();
+
+        List<Long> missingBuying = new ArrayList<>();
+        List<Long> extraBuying = new ArrayList<>();
+        diff(BookSide.BUYING, buyingBiddingRepository.findAllProcessIds(), missingBuying, extraBuying);
+        result.missingBuying = missingBuying.size();
+        result.extraBuying = extraBuying.size();
+
+        List<Long> missingSales = new ArrayList<>();
+        List<Long> extraSales = new ArrayList<>();
+        diff(BookSide.SALES, salesBiddingRepository.findAllProcessIds(), missingSales, extraSales);
+        result.missingSales = missingSales.size();
+        result.extraSales = extraSales.size();
+
+        if (!result.isConsistent()) {
+            log.warn("호가창 불일치 - {}", result);
+        }
+        if (repair) {
+            load(BookSide.BUYING, missingBuying);
+            load(BookSide.SALES, missingSales);
+            unload(BookSide.BUYING, extraBuying);
+            unload(BookSide.SALES, extraSales);
+        }
+        return result;
+    }
+
+    private void diff(BookSide side, List<Long> processIds, List<Long> missing, List<Long> extra) {
+        Set<Long> dbIds = new HashSet<>(processIds);
+        Set<Long> bookIds = matchingEngine.ids(side);
+        for (Long id : dbIds) {
+            if (!bookIds.contains(id)) {
+                missing.add(id);
+            }
+        }
+        for (Long id : bookIds) {
+            if (!dbIds.contains(id)) {
+                extra.add(id);
+            }
+        }
+    }
+
+    private void load(BookSide side, List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+            List<BookEntry> entries = side == BookSide.BUYING
+                    ? buyingBiddingRepository.findAllProcessWithProductByIdIn(chunk).stream().map(BookEntry::from).toList()
+                    : salesBiddingRepository.findAllProcessWithProductByIdIn(chunk).stream().map(BookEntry::from).toList();
+
+            byShard(entries).forEach((shard, shardEntries) -> matchingShards.call(shard, () -> {
+                shardEntries.forEach(matchingEngine::add);
+                return null;
+            }));
+        }
+    }
+
+    private void unload(BookSide side, List<Long> ids) {
+        List<BookEntry> entries = new ArrayList<>();
+        for (Long id : ids) {
+            matchingEngine.find(side, id).ifPresent(entries::add);
+        }
+        byShard(entries).forEach((shard, shardEntries) -> matchingShards.call(shard, () -> {
+            shardEntries.forEach(entry -> matchingEngine.remove(entry.getSide(), entry.getBiddingId()));
+            return null;
+        }));
+    }
+
+    private Map<Integer, List<BookEntry>> byShard(List<BookEntry> entries) {
+        Map<Integer, List<BookEntry>> entriesByShard = new HashMap<>();
+        for (BookEntry entry : entries) {
+            entriesByShard.computeIfAbsent(matchingShards.shardOf(entry.getKey().getModelNum()), shard -> new ArrayList<>()).add(entry);
+        }
+        return entriesByShard;
+    }
+
+    @Getter
+    @ToString
+    public static class Result {
+        // DB 에는 진행 중인데 호가창에 없는 입찰 수
+        private int missingBuying;
+        private int missingSales;
+        // 호가창에는 있는데 DB 에서 진행 중이 아닌 입찰 수
+        private int extraBuying;
+        private int extraSales;
+
+        public boolean isConsistent() {
+            return missingBuying == 0 && missingSales == 0 && extraBuying == 0 && extraSales == 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.service.matching;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 같은 가격에 걸린 입찰 묶음, 먼저 들어온 입찰이 먼저 체결된다 (시간 우선)
+ */
+@Getter
+public class PriceLevel {
+
+    private final BigDecimal price;
+    private final Deque<BookEntry> entries = new ArrayDeque<>();
+    private int totalQuantity;
+
+    public PriceLevel(BigDecimal price) {
+        this.price = price;
+    }
+
+    void add(BookEntry entry) {
+        entries.addLast(entry);
+        totalQuantity += entry.getQuantity();
+    }
+
+    boolean remove(BookEntry entry) {
+        if (entries.remove(entry)) {
+            totalQuantity -= entry.getQuantity();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+}
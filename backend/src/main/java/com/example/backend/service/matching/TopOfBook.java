@@ -0,0 +1,89 @@
+package com.example.backend.service.matching;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.NavigableMap;
+
+/**
+ * 호가창 양쪽 끝 가격과 진행 중 입찰 수 스냅샷 (불변)
+ * 상세 페이지 / 입찰 페이지는 구매 입찰 최저가, 판매 입찰 최고가를 보여준다.
+ */
+@Getter
+@Builder
+@ToString
+public class TopOfBook {
+
+    public static final TopOfBook EMPTY = TopOfBook.builder().build();
+
+    private final BigDecimal highestBuyingPrice;
+    private final BigDecimal lowestBuyingPrice;
+    private final BigDecimal lowestSalesPrice;
+    private final BigDecimal highestSalesPrice;
+    // 진행 중 입찰 수
+    private final int buyingCount;
+    private final int salesCount;
+
+    public static TopOfBook of(OrderBook book) {
+        // 구매 입찰은 내림차순, 판매 입찰은 오름차순으로 정렬되어 있음
+        NavigableMap<BigDecimal, PriceLevel> buying = book.readLevels(BookSide.BUYING);
+        NavigableMap<BigDecimal, PriceLevel> sales = book.readLevels(BookSide.SALES);
+
+        return TopOfBook.builder()
+                .highestBuyingPrice(buying.isEmpty() ? null : buying.firstKey())
+                .lowestBuyingPrice(buying.isEmpty() ? null : buying.lastKey())
+                .lowestSalesPrice(sales.isEmpty() ? null : sales.firstKey())
+                .highestSalesPrice(sales.isEmpty() ? null : sales.lastKey())
+                .buyingCount(book.count(BookSide.BUYING))
+                .salesCount(book.count(BookSide.SALES))
+                .build();
+    }
+
+    // 사이즈별 스냅샷을 모델 단위로 합침
+    public static TopOfBook merge(Iterable<TopOfBook> sizes) {
+        BigDecimal highestBuying = null;
+        BigDecimal lowestBuying = null;
+        BigDecimal lowestSales = null;
+        BigDecimal highestSales = null;
+        int buyingCount = 0;
+        int salesCount = 0;
+
+        for (TopOfBook size : sizes) {
+            highestBuying = max(highestBuying, size.highestBuyingPrice);
+            lowestBuying = min(lowestBuying, size.lowestBuyingPrice);
+            lowestSales = min(lowestSales, size.lowestSalesPrice);
+            highestSales = max(highestSales, size.highestSalesPrice);
+            buyingCount += size.buyingCount;
+            salesCount += size.salesCount;
+        }
+
+        return TopOfBook.builder()
+                .highestBuyingPrice(highestBuying)
+                .lowestBuyingPrice(lowestBuying)
+                .lowestSalesPrice(lowestSales)
+                .highestSalesPrice(highestSales)
+                .buyingCount(buyingCount)
+                .salesCount(salesCount)
+                .build();
+    }
+
+    public boolean isEmpty() {
+        return highestBuyingPrice == null && lowestSalesPrice == null;
+    }
+
+    public static BigDecimal orZero(BigDecimal price) {
+        return price != null ? price : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal min(BigDecimal current, BigDecimal candidate) {
+        if (candidate == null) return current;
+        return current == null || candidate.compareTo(current) < 0 ? candidate : current;
+    }
+
+    private static BigDecimal max(BigDecimal current, BigDecimal candidate) {
+        if (candidate == null) return current;
+        return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+    }
+}
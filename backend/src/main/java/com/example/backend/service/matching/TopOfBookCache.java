@@ -0,0 +1,59 @@
+package com.example.backend.service.matching;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (모델번호, 사이즈) / 모델번호 단위 최고·최저 입찰가 캐시
+ * 호가창이 바뀔 때마다 MatchingEngine 이 갱신하므로 조회 시 MIN/MAX 집계 쿼리가 필요 없다.
+ */
+@Component
+public class TopOfBookCache {
+
+    // modelNum -> (productSize -> TopOfBook)
+    private final Map<String, Map<String, TopOfBook>> bySize = new ConcurrentHashMap<>();
+    private final Map<String, TopOfBook> byModel = new ConcurrentHashMap<>();
+
+    public TopOfBook get(String modelNum) {
+        return byModel.getOrDefault(modelNum, TopOfBook.EMPTY);
+    }
+
+    public TopOfBook get(String modelNum, String productSize) {
+        Map<String, TopOfBook> sizes = bySize.get(modelNum);
+        if (sizes == null) {
+            return TopOfBook.EMPTY;
+        }
+        return sizes.getOrDefault(productSize, TopOfBook.EMPTY);
+    }
+
+    // 사이즈별 스냅샷 (사이즈별 최저/최고가 목록에 사용)
+    public Map<String, TopOfBook> getSizes(String modelNum) {
+        return Map.copyOf(bySize.getOrDefault(modelNum, Map.of()));
+    }
+
+    /**
+     * 호가창 변경 직후 호출 - 해당 사이즈 스냅샷을 다시 만들고 모델 단위 값을 합친다.
+     */
+    void refresh(OrderBook book) {
+        BookKey key = book.getKey();
+        TopOfBook snapshot = TopOfBook.of(book);
+        Map<String, TopOfBook> sizes = bySize.computeIfAbsent(key.getModelNum(), modelNum -> new ConcurrentHashMap<>());
+
+        // 같은 모델의 다른 사이즈가 동시에 갱신되어도 모델 단위 값이 어긋나지 않도록 함
+        synchronized (sizes) {
+            if (snapshot.isEmpty()) {
+                sizes.remove(key.getProductSize());
+            } else {
+                sizes.put(key.getProductSize(), snapshot);
+            }
+            byModel.put(key.getModelNum(), TopOfBook.merge(sizes.values()));
+        }
+    }
+
+    void clear() {
+        bySize.clear();
+        byModel.clear();
+    }
+}
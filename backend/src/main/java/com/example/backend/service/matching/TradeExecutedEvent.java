@@ -0,0 +1,23 @@
+package com.example.backend.service.matching;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 체결 발생 이벤트 - 체결 트랜잭션이 커밋된 뒤 시세 / 캐시 갱신에 사용
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class TradeExecutedEvent {
+
+    private final Long productId;
+    private final String modelNum;
+    private final String productSize;
+    private final BigDecimal tradePrice;
+    private final LocalDateTime tradeTime;
+}
@@ -0,0 +1,121 @@
+package com.example.backend.service.matching;
+
+import com.example.backend.entity.PriceCandle;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.SalesBidding;
+import com.example.backend.entity.Trade;
+import com.example.backend.entity.enumData.CandleInterval;
+import com.example.backend.repository.Bidding.SalesBiddingRepository;
+import com.example.backend.repository.Trade.PriceCandleRepository;
+import com.example.backend.repository.Trade.TradeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 체결 내역(Trade) 기록 + 시간 / 일 단위 시세 캔들(PriceCandle) 누적
+ * 체결이 일어나는 트랜잭션 안에서 한 번만 기록되고, 이후 수정하지 않는다.
+ * 같은 모델번호의 체결은 한 샤드 스레드에서만 일어나므로 캔들 갱신이 서로 겹치지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class TradeLedger {
+
+    private final TradeRepository tradeRepository;
+    private final SalesBiddingRepository salesBiddingRepository;
+    private final PriceCandleRepository priceCandleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Trade record(Product product, BigDecimal tradePrice, Long buyingBiddingId, Long salesBiddingId) {
+        Trade trade = Trade.builder()
+                .product(product)
+                .modelNum(product.getModelNum())
+                .productSize(product.getProductSize())
+                .tradePrice(tradePrice)
+                .tradeTime(LocalDateTime.now())
+                .buyingBiddingId(buyingBiddingId)
+                .salesBiddingId(salesBiddingId)
+                .build();
+        tradeRepository.save(trade);
+
+        for (CandleInterval candleInterval : CandleInterval.values()) {
+            priceCandleRepository.findByModelNumAndProductSizeAndCandleIntervalAndBucketStart(
+                            trade.getModelNum(), PriceCandle.sizeKey(trade.getProductSize()), candleInterval, candleInterval.truncate(trade.getTradeTime()))
+                    .ifPresentOrElse(candle -> candle.apply(trade.getTradePrice()),
+                            () -> priceCandleRepository.save(PriceCandle.open(trade, candleInterval)));
+        }
+
+        eventPublisher.publishEvent(new TradeExecutedEvent(product.getProductId(), trade.getModelNum(),
+                trade.getProductSize(), trade.getTradePrice(), trade.getTradeTime()));
+        return trade;
+    }
+
+    /**
+     * 체결 내역이 비어 있으면 기존 체결 완료 판매 입찰로 채운다. (체결 시간 = 판매 입찰 시간)
+     * 캔들이 비어 있으면 전체 체결 내역으로 다시 만든다.
+     * 사이즈를 NULL 로 저장한 이전 캔들이 남아 있으면 사이즈 없는 상품의 캔들만 지우고 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (tradeRepository.count() == 0) {
+            backfillTrades();
+        }
+        if (priceCandleRepository.count() == 0) {
+            rebuildCandles(tradeRepository.findAll(Sort.by("tradeTime")));
+        } else if (priceCandleRepository.existsByProductSizeIsNull()) {
+            int deleted = priceCandleRepository.deleteNoSizeCandles();
+            log.info("사이즈 없는 시세 캔들 삭제 - {}건", deleted);
+            rebuildCandles(tradeRepository.findByProductSizeIsNull(Sort.by("tradeTime")));
+        }
+    }
+
+    private void backfillTrades() {
+        List<SalesBidding> completed = salesBiddingRepository.findAllCompleteWithProduct();
+        List<Trade> trades = completed.stream()
+                .map(salesBidding -> Trade.builder()
+                        .product(salesBidding.getProduct())
+                        .modelNum(salesBidding.getProduct().getModelNum())
+                        .productSize(salesBidding.getProduct().getProductSize())
+                        .tradePrice(salesBidding.getSalesBiddingPrice())
+                        .tradeTime(salesBidding.getSalesBiddingTime() != null
+                                ? salesBidding.getSalesBiddingTime() : salesBidding.getCreateDate())
+                        .salesBiddingId(salesBidding.getSalesBiddingId())
+                        .build())
+                .filter(trade -> trade.getTradeTime() != null && trade.getTradePrice() != null)
+                .toList();
+        tradeRepository.saveAll(trades);
+        log.info("체결 내역 초기 적재 - {}건", trades.size());
+    }
+
+    private void rebuildCandles(List<Trade> trades) {
+        Map<String, PriceCandle> candles = new LinkedHashMap<>();
+        for (Trade trade : trades) {
+            for (CandleInterval candleInterval : CandleInterval.values()) {
+                String key = trade.getModelNum() + "|" + PriceCandle.sizeKey(trade.getProductSize()) + "|" + candleInterval
+                        + "|" + candleInterval.truncate(trade.getTradeTime());
+                PriceCandle candle = candles.get(key);
+                if (candle == null) {
+                    candles.put(key, PriceCandle.open(trade, candleInterval));
+                } else {
+                    candle.apply(trade.getTradePrice());
+                }
+            }
+        }
+        priceCandleRepository.saveAll(candles.values());
+        log.info("시세 캔들 초기 적재 - {}건", candles.size());
+    }
+}
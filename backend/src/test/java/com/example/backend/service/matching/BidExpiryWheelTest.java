@@ -0,0 +1,101 @@
+package com.example.backend.service.matching;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidExpiryWheelTest {
+
+    private static final long START = 0L;
+
+    @Test
+    @DisplayName("마감 시간이 든 틱이 지나야 만료되고, 그 전에는 돌려주지 않는다")
+    void expiresAfterTick() {
+        BidExpiryWheel wheel = new BidExpiryWheel(START);
+        wheel.schedule(entry(1L), 3_500L);
+
+        assertThat(wheel.advance(3_999L)).isEmpty();
+        assertThat(ids(wheel.advance(4_000L))).containsExactly(1L);
+        assertThat(wheel.advance(10_000L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상위 휠에 둔 입찰은 틱 경계마다 하위 휠로 내려와 제때 만료된다")
+    void cascadesAcrossLevels() {
+        BidExpiryWheel wheel = new BidExpiryWheel(START);
+        long level1 = Duration.ofSeconds(100).toMillis();
+        long level2 = Duration.ofHours(2).toMillis();
+        long level3 = Duration.ofDays(10).toMillis() + 1_234L;
+        wheel.schedule(entry(1L), level1);
+        wheel.schedule(entry(2L), level2);
+        wheel.schedule(entry(3L), level3);
+
+        assertThat(wheel.advance(level1)).isEmpty();
+        assertThat(ids(wheel.advance(level1 + BidExpiryWheel.TICK_MS))).containsExactly(1L);
+
+        assertThat(wheel.advance(level2)).isEmpty();
+        assertThat(ids(wheel.advance(level2 + BidExpiryWheel.TICK_MS))).containsExactly(2L);
+
+        long level3Tick = level3 - level3 % BidExpiryWheel.TICK_MS;
+        assertThat(wheel.advance(level3Tick)).isEmpty();
+        assertThat(ids(wheel.advance(level3Tick + BidExpiryWheel.TICK_MS))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("한 번에 여러 틱을 건너뛰어도 그 사이에 마감된 입찰을 모두 돌려준다")
+    void advancesManyTicksAtOnce() {
+        BidExpiryWheel wheel = new BidExpiryWheel(START);
+        wheel.schedule(entry(1L), 30_000L);
+        wheel.schedule(entry(2L), Duration.ofMinutes(5).toMillis());
+        wheel.schedule(entry(3L), Duration.ofMinutes(90).toMillis());
+        wheel.schedule(entry(4L), Duration.ofHours(3).toMillis());
+
+        assertThat(ids(wheel.advance(Duration.ofHours(2).toMillis()))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(wheel.advance(Duration.ofHours(4).toMillis()))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("등록 시점에 이미 마감된 입찰은 다음 advance 에서 바로 돌려준다")
+    void overdueOnSchedule() {
+        BidExpiryWheel wheel = new BidExpiryWheel(60_000L);
+        wheel.schedule(entry(1L), 5_000L);
+
+        assertThat(ids(wheel.advance(60_000L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 휠에 새로 등록한 먼 마감도 현재 위치 기준으로 배치된다")
+    void scheduleAfterAdvance() {
+        BidExpiryWheel wheel = new BidExpiryWheel(START);
+        long now = Duration.ofMinutes(70).toMillis() + 500L;
+        wheel.advance(now);
+
+        long expiration = now + Duration.ofMinutes(70).toMillis();
+        wheel.schedule(entry(1L), expiration);
+
+        long tick = expiration - expiration % BidExpiryWheel.TICK_MS;
+        assertThat(wheel.advance(tick)).isEmpty();
+        assertThat(ids(wheel.advance(tick + BidExpiryWheel.TICK_MS))).containsExactly(1L);
+    }
+
+    private static List<Long> ids(List<BookEntry> entries) {
+        return entries.stream().map(BookEntry::getBiddingId).toList();
+    }
+
+    private static BookEntry entry(Long biddingId) {
+        return BookEntry.builder()
+                .biddingId(biddingId)
+                .side(BookSide.BUYING)
+                .key(BookKey.of("DZ5485-612", "270"))
+                .userId(7L)
+                .productId(11L)
+                .price(new BigDecimal("189000"))
+                .quantity(1)
+                .build();
+    }
+}
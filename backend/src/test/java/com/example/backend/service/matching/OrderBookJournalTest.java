@@ -0,0 +1,229 @@
+package com.example.backend.service.matching;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderBookJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 ADD / REMOVE 를 다시 열어 재생하면 같은 호가창이 복구된다")
+    void roundTrip() throws IOException {
+        BookEntry first = entry(1L, BookSide.BUYING);
+        OrderBookJournal journal = open(SEGMENT_SIZE);
+        journal.appendAdd(first);
+        journal.appendAdd(entry(2L, BookSide.BUYING));
+        journal.appendAdd(entry(3L, BookSide.SALES));
+        journal.appendRemove(BookSide.BUYING, 2L);
+        journal.close();
+
+        OrderBookJournal reopened = open(SEGMENT_SIZE);
+        OrderBookJournal.Restored restored = reopened.restore();
+
+        assertThat(reopened.sequence()).isEqualTo(4);
+        assertThat(restored.getSnapshotSequence()).isZero();
+        assertThat(restored.getReplayed()).isEqualTo(4);
+        assertThat(ids(restored)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(find(restored, 1L)).usingRecursiveComparison().isEqualTo(first);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 재생은 모든 세그먼트를 순서대로 읽는다")
+    void rollsSegments() throws IOException {
+        OrderBookJournal journal = open(256);
+        for (long id = 1; id <= 20; id++) {
+            journal.appendAdd(entry(id, BookSide.SALES));
+        }
+        journal.close();
+
+        assertThat(segments()).hasSizeGreaterThan(1);
+        OrderBookJournal reopened = open(256);
+        assertThat(ids(reopened.restore())).hasSize(20);
+        assertThat(reopened.sequence()).isEqualTo(20);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("CRC 가 맞지 않는 마지막 레코드는 버리고, 이후 기록은 그 자리부터 이어 쓴다")
+    void corruptTail() throws IOException {
+        OrderBookJournal journal = open(SEGMENT_SIZE);
+        journal.appendAdd(entry(1L, BookSide.BUYING));
+        journal.appendAdd(entry(2L, BookSide.BUYING));
+        journal.appendAdd(entry(3L, BookSide.BUYING));
+        journal.close();
+
+        Path segment = segments().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        int third = recordOffset(bytes, 2);
+        bytes[third + 8 + 5] ^= 0x7F;
+        Files.write(segment, bytes);
+
+        OrderBookJournal reopened = open(SEGMENT_SIZE);
+        OrderBookJournal.Restored restored = reopened.restore();
+        assertThat(ids(restored)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(restored.getReplayed()).isEqualTo(2);
+        assertThat(reopened.sequence()).isEqualTo(2);
+
+        reopened.appendAdd(entry(4L, BookSide.BUYING));
+        reopened.close();
+
+        OrderBookJournal again = open(SEGMENT_SIZE);
+        assertThat(ids(again.restore())).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(again.sequence()).isEqualTo(3);
+        again.close();
+    }
+
+    @Test
+    @DisplayName("헤더만 기록되고 본문이 잘린 레코드는 재생하지 않는다")
+    void tornTail() throws IOException {
+        OrderBookJournal journal = open(SEGMENT_SIZE);
+        journal.appendAdd(entry(1L, BookSide.SALES));
+        journal.appendAdd(entry(2L, BookSide.SALES));
+        journal.close();
+
+        Path segment = segments().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        int second = recordOffset(bytes, 1);
+        int length = ByteBuffer.wrap(bytes, second, 4).getInt();
+        Arrays.fill(bytes, second + 8 + length / 2, second + 8 + length, (byte) 0);
+        Files.write(segment, bytes);
+
+        OrderBookJournal reopened = open(SEGMENT_SIZE);
+        OrderBookJournal.Restored restored = reopened.restore();
+        assertThat(ids(restored)).containsExactly(1L);
+        assertThat(reopened.sequence()).isEqualTo(1);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽은 뒤 스냅샷 순번 이후의 저널만 재생한다")
+    void snapshotThenReplay() throws IOException {
+        BookEntry first = entry(1L, BookSide.BUYING);
+        BookEntry second = entry(2L, BookSide.SALES);
+        OrderBookJournal journal = open(SEGMENT_SIZE);
+        journal.appendAdd(first);
+        journal.appendAdd(second);
+        journal.snapshot(journal.sequence(), List.of(first, second));
+        journal.appendRemove(BookSide.BUYING, 1L);
+        journal.appendAdd(entry(3L, BookSide.BUYING));
+        journal.close();
+
+        OrderBookJournal reopened = open(SEGMENT_SIZE);
+        OrderBookJournal.Restored restored = reopened.restore();
+
+        assertThat(restored.getSnapshotSequence()).isEqualTo(2);
+        assertThat(restored.getReplayed()).isEqualTo(2);
+        assertThat(ids(restored)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(find(restored, 2L)).usingRecursiveComparison().isEqualTo(second);
+        assertThat(reopened.sequence()).isEqualTo(4);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("스냅샷에 모두 포함된 세그먼트는 지우고, 남은 세그먼트로 같은 호가창을 복구한다")
+    void snapshotPrunesSegments() throws IOException {
+        OrderBookJournal journal = open(256);
+        for (long id = 1; id <= 10; id++) {
+            journal.appendAdd(entry(id, BookSide.BUYING));
+        }
+        int before = segments().size();
+        journal.snapshot(journal.sequence(), journal.restore().getEntries());
+        journal.appendRemove(BookSide.BUYING, 10L);
+        journal.close();
+
+        assertThat(segments()).hasSizeLessThan(before);
+        OrderBookJournal reopened = open(256);
+        OrderBookJournal.Restored restored = reopened.restore();
+        assertThat(restored.getSnapshotSequence()).isEqualTo(10);
+        assertThat(restored.getReplayed()).isEqualTo(1);
+        assertThat(ids(restored)).hasSize(9).doesNotContain(10L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 IOException 으로 알려 DB 적재로 넘어가게 한다")
+    void corruptSnapshot() throws IOException {
+        OrderBookJournal journal = open(SEGMENT_SIZE);
+        journal.appendAdd(entry(1L, BookSide.BUYING));
+        journal.snapshot(journal.sequence(), List.of(entry(1L, BookSide.BUYING)));
+        journal.close();
+
+        Path snapshot = files("snapshot-").get(0);
+        Files.write(snapshot, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        OrderBookJournal reopened = open(SEGMENT_SIZE);
+        assertThatThrownBy(reopened::restore).isInstanceOf(IOException.class);
+        reopened.close();
+    }
+
+    private OrderBookJournal open(int segmentSize) throws IOException {
+        OrderBookJournal journal = new OrderBookJournal(true, directory.toString(), segmentSize);
+        journal.open();
+        return journal;
+    }
+
+    // index 번째 레코드의 시작 위치 (레코드 = [본문 길이 int][CRC32 int][본문])
+    private int recordOffset(byte[] bytes, int index) {
+        int position = 0;
+        for (int i = 0; i < index; i++) {
+            position += 8 + ByteBuffer.wrap(bytes, position, 4).getInt();
+        }
+        return position;
+    }
+
+    private List<Path> segments() throws IOException {
+        return files("journal-");
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static List<Long> ids(OrderBookJournal.Restored restored) {
+        return restored.getEntries().stream().map(BookEntry::getBiddingId).toList();
+    }
+
+    private static BookEntry find(OrderBookJournal.Restored restored, Long biddingId) {
+        return restored.getEntries().stream()
+                .filter(entry -> entry.getBiddingId().equals(biddingId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static BookEntry entry(Long biddingId, BookSide side) {
+        return BookEntry.builder()
+                .biddingId(biddingId)
+                .side(side)
+                .key(BookKey.of("DZ5485-612", "270"))
+                .userId(7L)
+                .productId(11L)
+                .price(new BigDecimal("189000"))
+                .quantity(1)
+                .deadline(LocalDateTime.of(2026, 12, 31, 23, 59, 59))
+                .placedAt(LocalDateTime.of(2026, 10, 1, 12, 0, 0, 123_000_000))
+                .build();
+    }
+}
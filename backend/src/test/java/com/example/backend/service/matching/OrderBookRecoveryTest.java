@@ -0,0 +1,108 @@
+package com.example.backend.service.matching;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderBookRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    private final MatchingEngine matchingEngine = mock(MatchingEngine.class);
+    private final MatchingShards matchingShards = mock(MatchingShards.class);
+    private final OrderBookVerifier verifier = mock(OrderBookVerifier.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @Test
+    @DisplayName("스냅샷과 이후 저널을 재생한 입찰을 호가창에 올리고 DB 검증 후 복구 완료를 알린다")
+    void restoresSnapshotAndJournal() throws IOException {
+        OrderBookJournal journal = journal();
+        journal.appendAdd(entry(1L, "DZ5485-612"));
+        journal.appendAdd(entry(2L, "FD0774-101"));
+        journal.snapshot(journal.sequence(), List.of(entry(1L, "DZ5485-612"), entry(2L, "FD0774-101")));
+        journal.appendRemove(BookSide.BUYING, 1L);
+        journal.appendAdd(entry(3L, "DZ5485-612"));
+        runOnCaller();
+
+        OrderBookRecovery recovery = new OrderBookRecovery(matchingEngine, matchingShards, journal, verifier, eventPublisher);
+        recovery.start();
+
+        ArgumentCaptor<BookEntry> restored = ArgumentCaptor.forClass(BookEntry.class);
+        verify(matchingEngine, times(2)).restore(restored.capture());
+        assertThat(restored.getAllValues()).extracting(BookEntry::getBiddingId).containsExactlyInAnyOrder(2L, 3L);
+        verify(matchingEngine, times(1)).clear();
+        verify(verifier).verify(true);
+        verify(eventPublisher).publishEvent(any(OrderBookRecoveredEvent.class));
+        assertThat(recovery.isRunning()).isTrue();
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽지 못하면 호가창을 비우고 DB 검증 단계에서 전체를 적재한다")
+    void fallsBackToDatabaseOnCorruptSnapshot() throws IOException {
+        OrderBookJournal journal = journal();
+        journal.appendAdd(entry(1L, "DZ5485-612"));
+        journal.snapshot(journal.sequence(), List.of(entry(1L, "DZ5485-612")));
+        try (Stream<Path> files = Files.list(directory)) {
+            Path snapshot = files.filter(path -> path.getFileName().toString().startsWith("snapshot-")).findFirst().orElseThrow();
+            Files.write(snapshot, new byte[]{0, 0, 0, 0});
+        }
+        runOnCaller();
+
+        OrderBookRecovery recovery = new OrderBookRecovery(matchingEngine, matchingShards, journal, verifier, eventPublisher);
+        recovery.start();
+
+        verify(matchingEngine, never()).restore(any());
+        verify(matchingEngine, times(2)).clear();
+        verify(verifier).verify(true);
+        verify(eventPublisher).publishEvent(any(OrderBookRecoveredEvent.class));
+        journal.close();
+    }
+
+    private OrderBookJournal journal() throws IOException {
+        OrderBookJournal journal = new OrderBookJournal(true, directory.toString(), 4096);
+        journal.open();
+        return journal;
+    }
+
+    // 샤드 스레드 대신 호출한 스레드에서 바로 실행
+    private void runOnCaller() {
+        when(matchingShards.shardOf(anyString())).thenReturn(0);
+        when(matchingShards.call(anyInt(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    private static BookEntry entry(Long biddingId, String modelNum) {
+        return BookEntry.builder()
+                .biddingId(biddingId)
+                .side(BookSide.BUYING)
+                .key(BookKey.of(modelNum, "270"))
+                .userId(7L)
+                .productId(11L)
+                .price(new BigDecimal("189000"))
+                .quantity(1)
+                .placedAt(LocalDateTime.of(2026, 10, 1, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.backend.service.matching;
+
+import com.example.backend.entity.BuyingBidding;
+import com.example.backend.entity.Product;
+import com.example.backend.entity.SalesBidding;
+import com.example.backend.entity.Users;
+import com.example.backend.repository.Bidding.BuyingBiddingRepository;
+import com.example.backend.repository.Bidding.SalesBiddingRepository;
+import com.example.backend.repository.Orders.OrdersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderBookTest {
+
+    private static final BookKey KEY = BookKey.of("DD1391-100", "270");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("구매 입찰은 가장 낮은 판매가부터, 판매 입찰은 가장 높은 구매가부터 체결한다")
+    void pricePriorityAcrossLevels() {
+        OrderBook book = new OrderBook(KEY);
+        book.add(entry(1L, BookSide.SALES, 10L, 120_000, NOW.minusMinutes(3)));
+        book.add(entry(2L, BookSide.SALES, 10L, 100_000, NOW.minusMinutes(1)));
+        book.add(entry(3L, BookSide.SALES, 10L, 110_000, NOW.minusMinutes(2)));
+        book.add(entry(4L, BookSide.BUYING, 20L, 90_000, NOW.minusMinutes(3)));
+        book.add(entry(5L, BookSide.BUYING, 20L, 95_000, NOW.minusMinutes(1)));
+
+        BookEntry buying = entry(6L, BookSide.BUYING, 30L, 130_000, NOW);
+        assertThat(book.pollMatch(buying, NOW)).map(BookEntry::getBiddingId).contains(2L);
+        assertThat(book.pollMatch(buying, NOW)).map(BookEntry::getBiddingId).contains(3L);
+        assertThat(book.pollMatch(buying, NOW)).map(BookEntry::getBiddingId).contains(1L);
+        assertThat(book.pollMatch(buying, NOW)).isEmpty();
+
+        BookEntry sales = entry(7L, BookSide.SALES, 30L, 80_000, NOW);
+        assertThat(book.pollMatch(sales, NOW)).map(BookEntry::getBiddingId).contains(5L);
+        assertThat(book.pollMatch(sales, NOW)).map(BookEntry::getBiddingId).contains(4L);
+        assertThat(book.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 가격대에서는 먼저 들어온 입찰부터 체결한다")
+    void fifoWithinLevel() {
+        OrderBook book = new OrderBook(KEY);
+        book.add(entry(1L, BookSide.SALES, 10L, 100_000, NOW.minusMinutes(3)));
+        book.add(entry(2L, BookSide.SALES, 11L, 100_000, NOW.minusMinutes(2)));
+        book.add(entry(3L, BookSide.SALES, 12L, 100_000, NOW.minusMinutes(1)));
+
+        BookEntry buying = entry(4L, BookSide.BUYING, 30L, 100_000, NOW);
+        assertThat(book.pollMatch(buying, NOW)).map(BookEntry::getBiddingId).contains(1L);
+        assertThat(book.pollMatch(buying, NOW)).map(BookEntry::getBiddingId).contains(2L);
+        assertThat(book.pollMatch(buying, NOW)).map(BookEntry::getBiddingId).contains(3L);
+        assertThat(book.count(BookSide.SALES)).isZero();
+    }
+
+    @Test
+    @DisplayName("본인 입찰과 마감 시간이 지난 입찰은 건너뛰고 호가창에 남겨 둔다")
+    void skipsOwnAndExpiredBids() {
+        OrderBook book = new OrderBook(KEY);
+        book.add(entry(1L, BookSide.SALES, 30L, 100_000, NOW.minusMinutes(3)));
+        book.add(BookEntry.builder()
+                .biddingId(2L).side(BookSide.SALES).key(KEY).userId(10L).productId(1L)
+                .price(BigDecimal.valueOf(100_000)).quantity(1)
+                .deadline(NOW.minusSeconds(1)).placedAt(NOW.minusMinutes(2))
+                .build());
+        book.add(entry(3L, BookSide.SALES, 11L, 105_000, NOW.minusMinutes(1)));
+
+        BookEntry buying = entry(4L, BookSide.BUYING, 30L, 110_000, NOW);
+        assertThat(book.pollMatch(buying, NOW)).map(BookEntry::getBiddingId).contains(3L);
+        assertThat(book.pollMatch(buying, NOW)).isEmpty();
+        assertThat(book.count(BookSide.SALES)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구매가와 판매가가 같으면 체결되고, 한 단위라도 어긋나면 체결되지 않는다")
+    void crossesAtEqualPrice() {
+        OrderBook book = new OrderBook(KEY);
+        book.add(entry(1L, BookSide.SALES, 10L, 100_000, NOW.minusMinutes(1)));
+        book.add(entry(2L, BookSide.BUYING, 20L, 90_000, NOW.minusMinutes(1)));
+
+        assertThat(book.pollMatch(entry(3L, BookSide.BUYING, 30L, 99_999, NOW), NOW)).isEmpty();
+        assertThat(book.pollMatch(entry(4L, BookSide.SALES, 30L, 90_001, NOW), NOW)).isEmpty();
+
+        assertThat(book.pollMatch(entry(5L, BookSide.BUYING, 30L, 100_000, NOW), NOW))
+                .map(BookEntry::getBiddingId).contains(1L);
+        assertThat(book.pollMatch(entry(6L, BookSide.SALES, 30L, 90_000, NOW), NOW))
+                .map(BookEntry::getBiddingId).contains(2L);
+    }
+
+    @Test
+    @DisplayName("구매 입찰 체결 트랜잭션이 롤백되면 꺼냈던 판매 입찰을 호가창에 다시 올린다")
+    void placeBuyingRollbackRestoresResting() {
+        MatchingEngine matchingEngine = matchingEngine();
+        SalesBiddingRepository salesBiddingRepository = mock(SalesBiddingRepository.class);
+        when(salesBiddingRepository.findById(anyLong())).thenReturn(Optional.empty());
+        BiddingMatchService service = new BiddingMatchService(matchingEngine, mock(BuyingBiddingRepository.class),
+                salesBiddingRepository, mock(OrdersRepository.class), mock(TradeLedger.class));
+        matchingEngine.add(entry(1L, BookSide.SALES, 10L, 100_000, NOW.minusMinutes(1)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatThrownBy(() -> service.placeBuying(buyingBidding(2L, 20L, 100_000)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(matchingEngine.contains(BookSide.SALES, 1L)).isFalse();
+
+        rollback();
+        assertThat(matchingEngine.contains(BookSide.SALES, 1L)).isTrue();
+        assertThat(matchingEngine.contains(BookSide.BUYING, 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("판매 입찰 체결 트랜잭션이 롤백되면 꺼냈던 구매 입찰을 호가창에 다시 올린다")
+    void placeSalesRollbackRestoresResting() {
+        MatchingEngine matchingEngine = matchingEngine();
+        BuyingBiddingRepository buyingBiddingRepository = mock(BuyingBiddingRepository.class);
+        when(buyingBiddingRepository.findById(anyLong())).thenReturn(Optional.empty());
+        BiddingMatchService service = new BiddingMatchService(matchingEngine, buyingBiddingRepository,
+                mock(SalesBiddingRepository.class), mock(OrdersRepository.class), mock(TradeLedger.class));
+        matchingEngine.add(entry(1L, BookSide.BUYING, 10L, 100_000, NOW.minusMinutes(1)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatThrownBy(() -> service.placeSales(salesBidding(2L, 20L, 95_000)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(matchingEngine.contains(BookSide.BUYING, 1L)).isFalse();
+
+        rollback();
+        assertThat(matchingEngine.contains(BookSide.BUYING, 1L)).isTrue();
+        assertThat(matchingEngine.contains(BookSide.SALES, 2L)).isFalse();
+    }
+
+    private MatchingEngine matchingEngine() {
+        return new MatchingEngine(mock(TopOfBookCache.class), mock(DepthLadderCache.class),
+                mock(OrderBookJournal.class), mock(ApplicationEventPublisher.class));
+    }
+
+    private void rollback() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    private BuyingBidding buyingBidding(Long biddingId, Long userId, long price) {
+        return BuyingBidding.builder()
+                .buyingBiddingId(biddingId)
+                .user(Users.builder().userId(userId).build())
+                .product(product())
+                .buyingBiddingPrice(BigDecimal.valueOf(price))
+                .buyingQuantity(1)
+                .buyingBiddingTime(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    private SalesBidding salesBidding(Long biddingId, Long userId, long price) {
+        return SalesBidding.builder()
+                .salesBiddingId(biddingId)
+                .user(Users.builder().userId(userId).build())
+                .product(product())
+                .salesBiddingPrice(BigDecimal.valueOf(price))
+                .salesQuantity(1)
+                .salesBiddingTime(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    private Product product() {
+        return Product.builder()
+                .productId(1L)
+                .modelNum(KEY.getModelNum())
+                .productSize(KEY.getProductSize())
+                .build();
+    }
+
+    private BookEntry entry(Long biddingId, BookSide side, Long userId, long price, LocalDateTime placedAt) {
+        return BookEntry.builder()
+                .biddingId(biddingId)
+                .side(side)
+                .key(KEY)
+                .userId(userId)
+                .productId(1L)
+                .price(BigDecimal.valueOf(price))
+                .quantity(1)
+                .placedAt(placedAt)
+                .build();
+    }
+}